@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.github.lordrex34.config.exception.ConfigLazyLoadingException;
+
+/**
+ * A handle of a configuration class, that loads the class on first access. Usage: {@code handle.get(() -> MyConfig.MY_FIELD)}
+ * @author lord_rex
+ */
+public final class ConfigHandle
+{
+	private final ConfigManager _configManager;
+	private final Class<?> _configClass;
+	
+	ConfigHandle(ConfigManager configManager, Class<?> configClass)
+	{
+		_configManager = configManager;
+		_configClass = configClass;
+	}
+	
+	/**
+	 * Gets the configuration class itself.
+	 * @return the configuration class
+	 */
+	public Class<?> getConfigClass()
+	{
+		return _configClass;
+	}
+	
+	/**
+	 * Checks whether the configuration class has been loaded.
+	 * @return {@code true} if the class is loaded, otherwise {@code false}
+	 */
+	public boolean isLoaded()
+	{
+		return _configManager.isLoaded(_configClass);
+	}
+	
+	/**
+	 * Loads the configuration class if it is not loaded yet.
+	 * @throws ConfigLazyLoadingException if the loading fails
+	 */
+	public void ensureLoaded()
+	{
+		if (isLoaded())
+		{
+			return;
+		}
+		
+		try
+		{
+			_configManager.ensureLoaded(_configClass);
+		}
+		catch (IOException | IllegalAccessException | InstantiationException e)
+		{
+			throw new ConfigLazyLoadingException("Failed to load " + _configClass.getName() + "!", e);
+		}
+	}
+	
+	/**
+	 * Loads the configuration class if it is not loaded yet, then reads a value of it.
+	 * @param <T> the type of the value
+	 * @param getter reads the value, typically a static field of the configuration class
+	 * @return the value
+	 * @throws ConfigLazyLoadingException if the loading fails
+	 */
+	public <T> T get(Supplier<T> getter)
+	{
+		ensureLoaded();
+		return getter.get();
+	}
+}
@@ -26,20 +26,49 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.changelisteners.ConfigChangeEvent;
+import com.github.lordrex34.config.changelisteners.EmptyConfigChangeListener;
+import com.github.lordrex34.config.changelisteners.IConfigChangeListener;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
 import com.github.lordrex34.config.context.ConfigClassLoadingContext;
 import com.github.lordrex34.config.exception.ConfigOverrideLoadingException;
+import com.github.lordrex34.config.lang.ConfigDiagnostics;
 import com.github.lordrex34.config.lang.ConfigProperties;
 import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.model.ConfigLoadReport;
+import com.github.lordrex34.config.util.ConfigDependencyGraph;
+import com.github.lordrex34.config.util.ConfigExecutors;
 import com.github.lordrex34.config.util.ConfigPropertyRegistry;
+import com.github.lordrex34.config.util.ConfigSnapshot;
 import com.github.lordrex34.reflection.util.ClassPathUtil;
 import com.google.common.annotations.VisibleForTesting;
 
@@ -51,14 +80,53 @@ public final class ConfigManager
 {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ConfigManager.class);
 	
-	/** Contains all the registered {@link ConfigClassInfo}s. */
-	private final Set<ConfigClassInfo> _configRegistry = new HashSet<>();
+	/** Contains all the registered {@link ConfigClassInfo}s. They are kept through reloads, so the already converted values can be reused. */
+	private final Map<Class<?>, ConfigClassInfo> _configRegistry = new ConcurrentHashMap<>();
+	
+	/** The futures of the latest loading of each configuration class. */
+	private final Map<Class<?>, CompletableFuture<ConfigClassInfo>> _loadFutures = new ConcurrentHashMap<>();
+	
+	/** The lazy configuration classes that are registered, but haven't been loaded yet. */
+	private final Set<Class<?>> _pendingLazyClasses = ConcurrentHashMap.newKeySet();
+	
+	/** Whether every configuration class is loaded lazily. */
+	private volatile boolean _lazyLoading;
+	
+	/** The snapshot file of the parsed properties files, or {@code null} if the snapshot is disabled. */
+	private volatile Path _snapshotPath;
+	
+	/** The snapshot read from {@link #_snapshotPath}. */
+	private ConfigSnapshot _snapshot;
+	
+	/** Whether the missing files are generated in the background. */
+	private volatile boolean _backgroundGeneration;
+	
+	/** Completed when the background generations scheduled so far are done. */
+	private volatile CompletableFuture<Void> _generationFuture = CompletableFuture.completedFuture(null);
+	
+	/** The executor used by the asynchronous loading. */
+	private volatile Executor _executor = ForkJoinPool.commonPool();
+	
+	/** The executor used by the I/O bound part of the asynchronous loading, {@code null} means the default one. */
+	private volatile Executor _ioExecutor;
 	
 	/** Input stream of the override system. */
 	private final Supplier<InputStream> _overrideInputStreamSupplier;
 	
 	/** The parsed overridden properties. */
-	private ConfigProperties _overridenProperties;
+	private volatile ConfigProperties _overridenProperties;
+	
+	/** The components used by this manager. */
+	private final ConfigComponentRegistry _components = new ConfigComponentRegistry();
+	
+	/** The registry of the properties loaded by this manager. */
+	private final ConfigPropertyRegistry _propertyRegistry = new ConfigPropertyRegistry();
+	
+	/** The diagnostics of the property warnings of this manager. */
+	private final ConfigDiagnostics _diagnostics = new ConfigDiagnostics();
+	
+	/** Change listeners registered directly into the manager, with the property keys they are interested in. */
+	private final Map<IConfigChangeListener, Set<String>> _changeListeners = new ConcurrentHashMap<>();
 	
 	/**
 	 * Constructs the {@link ConfigManager} class, used by user-end implementation.
@@ -87,6 +155,43 @@ public final class ConfigManager
 		return _configRegistry.size();
 	}
 	
+	/**
+	 * Gets the components used by this manager, components can be registered in advance here.
+	 * @return the component registry
+	 */
+	public ConfigComponentRegistry getComponents()
+	{
+		return _components;
+	}
+	
+	/**
+	 * Gets the diagnostics of the missing and invalid property warnings of this manager.
+	 * @return the diagnostics
+	 */
+	public ConfigDiagnostics getDiagnostics()
+	{
+		return _diagnostics;
+	}
+	
+	/**
+	 * Registers a change listener that is notified after each reload about the changed properties.
+	 * @param listener the listener to be registered
+	 * @param propertyKeys the property keys the listener is interested in, or none to get notified about every change
+	 */
+	public void addChangeListener(IConfigChangeListener listener, String... propertyKeys)
+	{
+		_changeListeners.put(listener, new HashSet<>(Arrays.asList(propertyKeys)));
+	}
+	
+	/**
+	 * Unregisters a change listener previously registered by {@link #addChangeListener(IConfigChangeListener, String...)}.
+	 * @param listener the listener to be unregistered
+	 */
+	public void removeChangeListener(IConfigChangeListener listener)
+	{
+		_changeListeners.remove(listener);
+	}
+	
 	/**
 	 * Creates the default {@link InputStream} for the override system.
 	 * @return default override input stream
@@ -133,7 +238,8 @@ public final class ConfigManager
 	}
 	
 	/**
-	 * Loads all configuration classes from the specified package and overwrites their properties according to override properties, if necessary.
+	 * Loads all configuration classes from the specified package and overwrites their properties according to override properties, if necessary.<br>
+	 * The classes are loaded after their {@link ConfigClass#dependsOn()} dependencies, in the order of their {@link ConfigClass#priority()}.
 	 * @param classLoader the class loader that is used for the process
 	 * @param packageName the package where configuration related classes are stored
 	 * @param reloading whether actual loading is a reload or not
@@ -143,6 +249,203 @@ public final class ConfigManager
 	 * @throws IllegalArgumentException
 	 */
 	public void load(ClassLoader classLoader, String packageName, boolean reloading) throws IOException, IllegalArgumentException, IllegalAccessException, InstantiationException
+	{
+		_diagnostics.nextGeneration();
+		final ConfigClassLoadingContext classLoadingContext = createLoadingContext(reloading);
+		final Set<ConfigClassInfo> configRegistry = scan(classLoader, packageName);
+		final Set<ConfigClassInfo> eagerClasses = deferLazyClasses(configRegistry);
+		for (List<ConfigClassInfo> wave : ConfigDependencyGraph.sortInWaves(configRegistry))
+		{
+			for (ConfigClassInfo configClassInfo : wave)
+			{
+				if (eagerClasses.contains(configClassInfo))
+				{
+					load(configClassInfo, classLoadingContext);
+				}
+			}
+		}
+		
+		finishLoading(configRegistry, classLoadingContext);
+	}
+	
+	/**
+	 * Asynchronous version of {@link #load(ClassLoader, String, boolean)}. The configuration classes are loaded in parallel on the executor of this manager.<br>
+	 * A failure of a configuration class doesn't stop the others, it is reported by {@link ConfigLoadReport#getFailures()} and by the future of that class.
+	 * @param classLoader the class loader that is used for the process
+	 * @param packageName the package where configuration related classes are stored
+	 * @param reloading whether actual loading is a reload or not
+	 * @return the future that is completed when every configuration class has been processed
+	 * @see #getLoadFuture(Class)
+	 * @see #setExecutor(Executor)
+	 */
+	public CompletableFuture<ConfigLoadReport> loadAsync(ClassLoader classLoader, String packageName, boolean reloading)
+	{
+		final Executor executor = _executor;
+		final Executor ioExecutor = getIoExecutor();
+		final long startTime = System.nanoTime();
+		return CompletableFuture.supplyAsync(() ->
+		{
+			final ConfigClassLoadingContext classLoadingContext;
+			final Set<ConfigClassInfo> configRegistry;
+			_diagnostics.nextGeneration();
+			try
+			{
+				classLoadingContext = createLoadingContext(reloading);
+				configRegistry = scan(classLoader, packageName);
+			}
+			catch (IOException e)
+			{
+				throw new CompletionException(e);
+			}
+			
+			final Set<ConfigClassInfo> eagerClasses = deferLazyClasses(configRegistry);
+			final List<Class<?>> loadedClasses = Collections.synchronizedList(new ArrayList<>());
+			final Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+			final List<CompletableFuture<Void>> futures = new ArrayList<>(configRegistry.size());
+			final Map<Class<?>, ConfigClassInfo> byClass = new HashMap<>();
+			configRegistry.forEach(configClassInfo -> byClass.put(configClassInfo.getConfigClass(), configClassInfo));
+			final Map<ConfigClassInfo, CompletableFuture<Void>> classFutures = new HashMap<>();
+			
+			// The waves are submitted in topological and priority order, but a class starts as soon as its own dependencies are loaded.
+			for (ConfigClassInfo configClassInfo : ConfigDependencyGraph.sortInWaves(configRegistry).stream().flatMap(List::stream).filter(eagerClasses::contains).collect(Collectors.toList()))
+			{
+				final CompletableFuture<ConfigClassInfo> loadFuture = prepareLoadFuture(configClassInfo.getConfigClass());
+				final CompletableFuture<?>[] dependencyFutures = ConfigDependencyGraph.getDependencies(configClassInfo, byClass).stream().map(classFutures::get).toArray(CompletableFuture<?>[]::new);
+				
+				// I/O bound part on the I/O executor, CPU bound part on the executor of this manager
+				final CompletableFuture<Void> classFuture = CompletableFuture.allOf(dependencyFutures).handle((v, e) ->
+				{
+					if (e != null)
+					{
+						throw new CompletionException(new IllegalStateException("A dependency of " + configClassInfo.getConfigClass().getName() + " has failed to load!", unwrap(e)));
+					}
+					return v;
+				}).thenApplyAsync(v ->
+				{
+					try
+					{
+						return configClassInfo.readProperties(classLoadingContext);
+					}
+					catch (IOException | IllegalAccessException | InstantiationException e)
+					{
+						throw new CompletionException(e);
+					}
+				}, ioExecutor).thenAcceptAsync(properties ->
+				{
+					try
+					{
+						configClassInfo.load(classLoadingContext, properties);
+					}
+					catch (IllegalAccessException | InstantiationException e)
+					{
+						throw new CompletionException(e);
+					}
+				}, executor);
+				classFutures.put(configClassInfo, classFuture);
+				
+				futures.add(classFuture.handle((v, e) ->
+				{
+					if (e == null)
+					{
+						loadedClasses.add(configClassInfo.getConfigClass());
+						loadFuture.complete(configClassInfo);
+					}
+					else
+					{
+						final Throwable cause = unwrap(e);
+						LOGGER.warn("Failed to load '{}'!", configClassInfo.getConfigClass().getName(), cause);
+						failures.put(configClassInfo.getConfigClass(), cause);
+						loadFuture.completeExceptionally(cause);
+					}
+					return null;
+				}));
+			}
+			
+			return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v ->
+			{
+				finishLoading(configRegistry, classLoadingContext);
+				return new ConfigLoadReport(packageName, reloading, new ArrayList<>(loadedClasses), failures, Duration.ofNanos(System.nanoTime() - startTime));
+			});
+		}, executor).thenCompose(Function.identity());
+	}
+	
+	/**
+	 * Unwraps the cause of a failed future.
+	 * @param throwable the failure of a future
+	 * @return the original cause
+	 */
+	private static Throwable unwrap(Throwable throwable)
+	{
+		return (throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable;
+	}
+	
+	/**
+	 * Same as {@link #loadAsync(ClassLoader, String, boolean)}, using {@link ClassLoader#getSystemClassLoader()} as the classLoader parameter.
+	 * @param packageName the package where configuration related classes are stored
+	 * @return the future that is completed when every configuration class has been processed
+	 */
+	public CompletableFuture<ConfigLoadReport> loadAsync(String packageName)
+	{
+		return loadAsync(ClassLoader.getSystemClassLoader(), packageName, false);
+	}
+	
+	/**
+	 * Gets the future of the latest loading of a configuration class. It is completed as soon as that class is loaded, independently from the rest of the classes.<br>
+	 * If the class has not been scheduled for loading yet, the future is completed by the next (synchronous or asynchronous) loading of that class.
+	 * @param clazz the configuration class
+	 * @return the future of the configuration class
+	 */
+	public CompletableFuture<ConfigClassInfo> getLoadFuture(Class<?> clazz)
+	{
+		// a dependent future is returned, so the callers cannot complete the one of the manager
+		return _loadFutures.computeIfAbsent(clazz, k -> new CompletableFuture<>()).thenApply(Function.identity());
+	}
+	
+	/**
+	 * Gets the executor used by the asynchronous loading.
+	 * @return the executor
+	 */
+	public Executor getExecutor()
+	{
+		return _executor;
+	}
+	
+	/**
+	 * Sets the executor used by the asynchronous loading. By default it is {@link ForkJoinPool#commonPool()}.
+	 * @param executor the executor
+	 */
+	public void setExecutor(Executor executor)
+	{
+		_executor = Objects.requireNonNull(executor, "Executor is null!");
+	}
+	
+	/**
+	 * Gets the executor used by the I/O bound part (reading and generating the properties files) of the asynchronous loading.
+	 * @return the I/O executor
+	 * @see ConfigExecutors#getIoExecutor(Executor)
+	 */
+	public Executor getIoExecutor()
+	{
+		final Executor ioExecutor = _ioExecutor;
+		return ioExecutor != null ? ioExecutor : ConfigExecutors.getIoExecutor(_executor);
+	}
+	
+	/**
+	 * Sets the executor used by the I/O bound part of the asynchronous loading. By default it is the executor of this manager on Java 8, and a virtual thread per file on Java 21+.
+	 * @param ioExecutor the I/O executor, or {@code null} to use the default one
+	 */
+	public void setIoExecutor(Executor ioExecutor)
+	{
+		_ioExecutor = ioExecutor;
+	}
+	
+	/**
+	 * Creates the context of a loading. Also (re)loads the overridden properties, if necessary.
+	 * @param reloading whether actual loading is a reload or not
+	 * @return the class loading context
+	 * @throws IOException
+	 */
+	private ConfigClassLoadingContext createLoadingContext(boolean reloading) throws IOException
 	{
 		if ((_overridenProperties == null) || reloading)
 		{
@@ -159,20 +462,404 @@ public final class ConfigManager
 			}
 		}
 		
-		final Set<ConfigClassInfo> configRegistry = new HashSet<>();
-		ClassPathUtil.getAllClassesAnnotatedWith(classLoader, packageName, ConfigClass.class).forEach(clazz -> configRegistry.add(new ConfigClassInfo(clazz)));
 		final ConfigClassLoadingContext classLoadingContext = new ConfigClassLoadingContext();
 		classLoadingContext.setOverriddenProperties(_overridenProperties);
 		classLoadingContext.setReloading(reloading);
-		for (ConfigClassInfo configClassInfo : configRegistry)
+		classLoadingContext.setChanges(Collections.synchronizedList(new ArrayList<>()));
+		classLoadingContext.setComponents(_components);
+		classLoadingContext.setPropertyRegistry(_propertyRegistry);
+		classLoadingContext.setDiagnostics(_diagnostics);
+		if (_backgroundGeneration)
+		{
+			classLoadingContext.setGenerationExecutor(getIoExecutor());
+			classLoadingContext.setGenerations(Collections.synchronizedList(new ArrayList<>()));
+		}
+		classLoadingContext.setSnapshot(getSnapshot());
+		return classLoadingContext;
+	}
+	
+	/**
+	 * Scans the package for configuration classes. The already registered {@link ConfigClassInfo}s are reused.
+	 * @param classLoader the class loader that is used for the process
+	 * @param packageName the package where configuration related classes are stored
+	 * @return the configuration classes of the package
+	 * @throws IOException
+	 */
+	private Set<ConfigClassInfo> scan(ClassLoader classLoader, String packageName) throws IOException
+	{
+		final Set<ConfigClassInfo> configRegistry = new HashSet<>();
+		for (Class<?> clazz : ClassPathUtil.getAllClassesAnnotatedWith(classLoader, packageName, ConfigClass.class))
+		{
+			final ConfigClassInfo configClassInfo = _configRegistry.get(clazz);
+			configRegistry.add(configClassInfo != null ? configClassInfo : new ConfigClassInfo(clazz, _components));
+		}
+		return configRegistry;
+	}
+	
+	/**
+	 * Loads a single configuration class, and completes its future.
+	 * @param configClassInfo the configuration class to be loaded
+	 * @param classLoadingContext the context of the actual loading
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 * @throws IllegalArgumentException
+	 */
+	private void load(ConfigClassInfo configClassInfo, ConfigClassLoadingContext classLoadingContext) throws IOException, IllegalArgumentException, IllegalAccessException, InstantiationException
+	{
+		final CompletableFuture<ConfigClassInfo> future = prepareLoadFuture(configClassInfo.getConfigClass());
+		try
 		{
 			configClassInfo.load(classLoadingContext);
+			future.complete(configClassInfo);
+		}
+		catch (IOException | IllegalAccessException | InstantiationException | RuntimeException e)
+		{
+			future.completeExceptionally(e);
+			throw e;
 		}
+	}
+	
+	/**
+	 * Gets the future of the upcoming loading of a configuration class.
+	 * @param clazz the configuration class
+	 * @return the future to be completed by the loading
+	 */
+	private CompletableFuture<ConfigClassInfo> prepareLoadFuture(Class<?> clazz)
+	{
+		// a new future is created, unless somebody is already waiting for this loading
+		return _loadFutures.compute(clazz, (k, v) -> ((v == null) || v.isDone()) ? new CompletableFuture<>() : v);
+	}
+	
+	/**
+	 * Notifies the change listeners, and registers the loaded classes into the manager's registry.
+	 * @param configRegistry the configuration classes of the actual loading
+	 * @param classLoadingContext the context of the actual loading
+	 */
+	private void finishLoading(Set<ConfigClassInfo> configRegistry, ConfigClassLoadingContext classLoadingContext)
+	{
+		fireChangeEvents(classLoadingContext.getChanges());
+		trackGenerations(classLoadingContext);
+		writeSnapshot(classLoadingContext);
+		_diagnostics.logSummary();
 		
 		// Register everything into the manager's registry.
-		_configRegistry.addAll(configRegistry);
+		configRegistry.forEach(configClassInfo -> _configRegistry.put(configClassInfo.getConfigClass(), configClassInfo));
 		
-		LOGGER.info("Loaded {} config file(s).", configRegistry.size());
+		final long deferred = configRegistry.stream().filter(configClassInfo -> _pendingLazyClasses.contains(configClassInfo.getConfigClass())).count();
+		LOGGER.info("Loaded {} config file(s).", configRegistry.size() - deferred);
+		if (deferred > 0)
+		{
+			LOGGER.info("Deferred {} lazy config file(s) until first use.", deferred);
+		}
+	}
+	
+	/**
+	 * Adds the background generations started by a loading to the generation future of this manager.
+	 * @param classLoadingContext the context of the actual loading
+	 */
+	private void trackGenerations(ConfigClassLoadingContext classLoadingContext)
+	{
+		final List<CompletableFuture<Void>> generations = classLoadingContext.getGenerations();
+		if ((generations == null) || generations.isEmpty())
+		{
+			return;
+		}
+		
+		synchronized (generations)
+		{
+			LOGGER.info("Generating {} missing config file(s) in the background.", generations.size());
+			final List<CompletableFuture<Void>> pending = new ArrayList<>(generations);
+			synchronized (this)
+			{
+				pending.add(_generationFuture);
+				_generationFuture = CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+			}
+		}
+	}
+	
+	/**
+	 * Gets the snapshot of this manager. The snapshot file is read on first use.
+	 * @return the snapshot, or {@code null} if the snapshot is disabled
+	 */
+	private synchronized ConfigSnapshot getSnapshot()
+	{
+		final Path snapshotPath = _snapshotPath;
+		if (snapshotPath == null)
+		{
+			return null;
+		}
+		
+		if (_snapshot == null)
+		{
+			_snapshot = ConfigSnapshot.read(snapshotPath);
+		}
+		return _snapshot;
+	}
+	
+	/**
+	 * Writes the snapshot file, if the files parsed by a loading have changed it.
+	 * @param classLoadingContext the context of the actual loading
+	 */
+	private static void writeSnapshot(ConfigClassLoadingContext classLoadingContext)
+	{
+		final ConfigSnapshot snapshot = classLoadingContext.getSnapshot();
+		if ((snapshot == null) || !snapshot.isDirty())
+		{
+			return;
+		}
+		
+		try
+		{
+			snapshot.write();
+		}
+		catch (IOException e)
+		{
+			// the snapshot is only a cache, the loading itself has succeeded
+			LOGGER.warn("Failed to write config snapshot!", e);
+		}
+	}
+	
+	/**
+	 * Gets the snapshot file of the parsed properties files.
+	 * @return the snapshot file, or {@code null} if the snapshot is disabled
+	 */
+	public Path getSnapshotPath()
+	{
+		return _snapshotPath;
+	}
+	
+	/**
+	 * Sets the snapshot file of the parsed properties files. Disabled by default.<br>
+	 * On restart the unchanged properties files are restored from the snapshot instead of being parsed again. The snapshot is updated after each loading that has parsed a changed file.
+	 * @param snapshotPath the snapshot file, or {@code null} to disable the snapshot
+	 */
+	public synchronized void setSnapshotPath(Path snapshotPath)
+	{
+		_snapshotPath = snapshotPath;
+		_snapshot = null;
+	}
+	
+	/**
+	 * Gets a future that is completed when every missing file that has been scheduled for background generation so far is written.
+	 * @return the future of the background generations
+	 * @see #setBackgroundGeneration(boolean)
+	 */
+	public CompletableFuture<Void> getGenerationFuture()
+	{
+		return _generationFuture;
+	}
+	
+	/**
+	 * Checks whether missing files are generated in the background.
+	 * @return {@code true} if missing files are generated in the background, otherwise {@code false}
+	 */
+	public boolean isBackgroundGeneration()
+	{
+		return _backgroundGeneration;
+	}
+	
+	/**
+	 * Sets whether missing files are generated in the background. If enabled, the classes whose file is missing are loaded from their defaults in memory, and the files are written on the I/O executor without delaying the loading.
+	 * @param backgroundGeneration {@code true} to generate the missing files in the background, {@code false} to generate them before loading
+	 * @see #getGenerationFuture()
+	 * @see #setIoExecutor(Executor)
+	 */
+	public void setBackgroundGeneration(boolean backgroundGeneration)
+	{
+		_backgroundGeneration = backgroundGeneration;
+	}
+	
+	/**
+	 * Selects the configuration classes that must be loaded now. Lazy classes that are not loaded yet are only registered, unless an eagerly loaded class depends on them.
+	 * @param configRegistry the configuration classes of the actual loading
+	 * @return the configuration classes to be loaded now
+	 */
+	private Set<ConfigClassInfo> deferLazyClasses(Set<ConfigClassInfo> configRegistry)
+	{
+		final Map<Class<?>, ConfigClassInfo> byClass = new HashMap<>();
+		configRegistry.forEach(configClassInfo -> byClass.put(configClassInfo.getConfigClass(), configClassInfo));
+		
+		final Deque<ConfigClassInfo> queue = new ArrayDeque<>();
+		for (ConfigClassInfo configClassInfo : configRegistry)
+		{
+			final Class<?> clazz = configClassInfo.getConfigClass();
+			final boolean alreadyLoaded = _configRegistry.containsKey(clazz) && !_pendingLazyClasses.contains(clazz);
+			if (!isLazy(configClassInfo) || alreadyLoaded)
+			{
+				queue.add(configClassInfo);
+			}
+		}
+		
+		final Set<ConfigClassInfo> eagerClasses = new HashSet<>();
+		while (!queue.isEmpty())
+		{
+			final ConfigClassInfo configClassInfo = queue.poll();
+			if (eagerClasses.add(configClassInfo))
+			{
+				queue.addAll(ConfigDependencyGraph.getDependencies(configClassInfo, byClass));
+			}
+		}
+		
+		for (ConfigClassInfo configClassInfo : configRegistry)
+		{
+			if (eagerClasses.contains(configClassInfo))
+			{
+				_pendingLazyClasses.remove(configClassInfo.getConfigClass());
+			}
+			else
+			{
+				// the metadata is registered right away, so the class can be loaded on demand
+				_pendingLazyClasses.add(configClassInfo.getConfigClass());
+				_configRegistry.put(configClassInfo.getConfigClass(), configClassInfo);
+			}
+		}
+		return eagerClasses;
+	}
+	
+	/**
+	 * Checks whether the configuration class is loaded lazily by this manager.
+	 * @param configClassInfo the configuration class
+	 * @return {@code true} if the class is loaded on first use, otherwise {@code false}
+	 */
+	private boolean isLazy(ConfigClassInfo configClassInfo)
+	{
+		return _lazyLoading || configClassInfo.isLazy();
+	}
+	
+	/**
+	 * Loads a lazy configuration class (and its lazy dependencies) if it is not loaded yet. Does nothing for already loaded classes.
+	 * @param clazz the configuration class
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 * @throws IllegalArgumentException if the class is not registered in this manager
+	 */
+	public void ensureLoaded(Class<?> clazz) throws IOException, IllegalArgumentException, IllegalAccessException, InstantiationException
+	{
+		final ConfigClassInfo configClassInfo = _configRegistry.get(clazz);
+		if (configClassInfo == null)
+		{
+			throw new IllegalArgumentException("Class " + clazz.getName() + " is not registered in this manager!");
+		}
+		
+		if (!_pendingLazyClasses.contains(clazz))
+		{
+			return;
+		}
+		
+		synchronized (configClassInfo)
+		{
+			if (!_pendingLazyClasses.contains(clazz))
+			{
+				return;
+			}
+			
+			for (Class<?> dependency : configClassInfo.getDependencies())
+			{
+				if (_pendingLazyClasses.contains(dependency))
+				{
+					ensureLoaded(dependency);
+				}
+			}
+			
+			final ConfigClassLoadingContext classLoadingContext = createLoadingContext(false);
+			load(configClassInfo, classLoadingContext);
+			trackGenerations(classLoadingContext);
+			writeSnapshot(classLoadingContext);
+			_pendingLazyClasses.remove(clazz);
+		}
+	}
+	
+	/**
+	 * Checks whether the configuration class has been loaded by this manager.
+	 * @param clazz the configuration class
+	 * @return {@code true} if the class is loaded, {@code false} if it is unknown or a lazy class that hasn't been used yet
+	 */
+	public boolean isLoaded(Class<?> clazz)
+	{
+		return _configRegistry.containsKey(clazz) && !_pendingLazyClasses.contains(clazz);
+	}
+	
+	/**
+	 * Gets a handle that loads the configuration class on first access.
+	 * @param clazz the configuration class
+	 * @return the handle of the configuration class
+	 */
+	public ConfigHandle getHandle(Class<?> clazz)
+	{
+		return new ConfigHandle(this, clazz);
+	}
+	
+	/**
+	 * Checks whether every configuration class is loaded lazily by this manager.
+	 * @return {@code true} if every configuration class is loaded on first use, otherwise only the ones marked by {@link ConfigClass#lazy()}
+	 */
+	public boolean isLazyLoading()
+	{
+		return _lazyLoading;
+	}
+	
+	/**
+	 * Sets whether every configuration class is loaded lazily by this manager. It takes effect on the next (re)load.
+	 * @param lazyLoading {@code true} to load every configuration class on first use, {@code false} to load lazily only the ones marked by {@link ConfigClass#lazy()}
+	 */
+	public void setLazyLoading(boolean lazyLoading)
+	{
+		_lazyLoading = lazyLoading;
+	}
+	
+	/**
+	 * Notifies the field, class and manager level change listeners about the changes, one batch per listener.
+	 * @param changes the changes collected during the actual loading
+	 */
+	private void fireChangeEvents(List<ConfigChangeEvent> changes)
+	{
+		if (changes.isEmpty())
+		{
+			return;
+		}
+		
+		final Map<IConfigChangeListener, List<ConfigChangeEvent>> batches = new LinkedHashMap<>();
+		for (ConfigChangeEvent event : changes)
+		{
+			final ConfigField configField = event.getField().getDeclaredAnnotation(ConfigField.class);
+			final ConfigClass configClass = event.getField().getDeclaringClass().getDeclaredAnnotation(ConfigClass.class);
+			if (configField.changeListener() != EmptyConfigChangeListener.class)
+			{
+				batches.computeIfAbsent(_components.get(configField.changeListener()), k -> new ArrayList<>()).add(event);
+			}
+			if (configClass.changeListener() != EmptyConfigChangeListener.class)
+			{
+				final List<ConfigChangeEvent> batch = batches.computeIfAbsent(_components.get(configClass.changeListener()), k -> new ArrayList<>());
+				// the same listener might be assigned to the field as well
+				if (batch.isEmpty() || (batch.get(batch.size() - 1) != event))
+				{
+					batch.add(event);
+				}
+			}
+			for (Entry<IConfigChangeListener, Set<String>> entry : _changeListeners.entrySet())
+			{
+				if (entry.getValue().isEmpty() || entry.getValue().contains(event.getKey()))
+				{
+					batches.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(event);
+				}
+			}
+		}
+		
+		for (Entry<IConfigChangeListener, List<ConfigChangeEvent>> entry : batches.entrySet())
+		{
+			try
+			{
+				entry.getKey().onChange(Collections.unmodifiableList(entry.getValue()));
+			}
+			catch (RuntimeException e)
+			{
+				LOGGER.warn("Change listener {} has failed!", entry.getKey().getClass().getName(), e);
+			}
+		}
+		
+		LOGGER.info("Notified {} change listener(s) about {} changed propert(ies).", batches.size(), changes.size());
 	}
 	
 	/**
@@ -198,16 +885,47 @@ public final class ConfigManager
 	 * @throws IllegalArgumentException
 	 */
 	public void reload(ClassLoader classLoader, String packageName) throws IOException, IllegalArgumentException, IllegalAccessException, InstantiationException
+	{
+		prepareReload(packageName);
+		load(classLoader, packageName, true);
+	}
+	
+	/**
+	 * Asynchronous version of {@link #reload(ClassLoader, String)}.
+	 * @param classLoader the class loader that is used for the process
+	 * @param packageName the package where configuration related classes are stored
+	 * @return the future that is completed when every configuration class has been processed
+	 */
+	public CompletableFuture<ConfigLoadReport> reloadAsync(ClassLoader classLoader, String packageName)
+	{
+		prepareReload(packageName);
+		return loadAsync(classLoader, packageName, true);
+	}
+	
+	/**
+	 * Same as {@link #reloadAsync(ClassLoader, String)}, using {@link ClassLoader#getSystemClassLoader()} as the classLoader parameter.
+	 * @param packageName the package where configuration related classes are stored
+	 * @return the future that is completed when every configuration class has been processed
+	 */
+	public CompletableFuture<ConfigLoadReport> reloadAsync(String packageName)
+	{
+		return reloadAsync(ClassLoader.getSystemClassLoader(), packageName);
+	}
+	
+	/**
+	 * Clears the state of the previous loading of the package.
+	 * @param packageName the package where configuration related classes are stored
+	 */
+	private void prepareReload(String packageName)
 	{
 		if (_overridenProperties != null)
 		{
 			_overridenProperties.clear();
 		}
 		
-		_configRegistry.clear();
+		_propertyRegistry.reset(packageName);
 		
-		ConfigPropertyRegistry.clear(packageName);
-		load(classLoader, packageName, true);
+		// the conversion cache is shared by every manager, and it is kept: its results are immutable, and they depend only on the type and the raw value
 	}
 	
 	/**
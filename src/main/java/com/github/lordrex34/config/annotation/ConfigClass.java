@@ -26,6 +26,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.github.lordrex34.config.changelisteners.EmptyConfigChangeListener;
+import com.github.lordrex34.config.changelisteners.IConfigChangeListener;
 import com.github.lordrex34.config.postloadhooks.EmptyConfigPostLoadClassHook;
 import com.github.lordrex34.config.postloadhooks.IConfigPostLoadClassHook;
 
@@ -46,4 +48,31 @@ public @interface ConfigClass
 	String[] comment() default {};
 	
 	Class<? extends IConfigPostLoadClassHook> postLoadHook() default EmptyConfigPostLoadClassHook.class;
+	
+	/**
+	 * Can be used to get notified about the properties of this class whose values have changed during a reload.
+	 * @return the change listener
+	 */
+	Class<? extends IConfigChangeListener> changeListener() default EmptyConfigChangeListener.class;
+	
+	/**
+	 * The configuration classes that must be loaded before this class, for example because its post-load hook reads their values.<br>
+	 * Classes that are not loaded by the same manager call are ignored.
+	 * @return the dependencies
+	 */
+	Class<?>[] dependsOn() default {};
+	
+	/**
+	 * Configuration classes with higher priority are loaded first among the classes whose dependencies are already loaded.
+	 * @return the load priority
+	 */
+	int priority() default 0;
+	
+	/**
+	 * Lazy classes are only registered by the loading, their file is read and their fields are set on first use.
+	 * @return {@code true} to load the class on first use
+	 * @see com.github.lordrex34.config.ConfigManager#ensureLoaded(Class)
+	 * @see com.github.lordrex34.config.ConfigManager#getHandle(Class)
+	 */
+	boolean lazy() default false;
 }
@@ -26,6 +26,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.github.lordrex34.config.changelisteners.EmptyConfigChangeListener;
+import com.github.lordrex34.config.changelisteners.IConfigChangeListener;
 import com.github.lordrex34.config.converter.IConfigConverter;
 import com.github.lordrex34.config.converter.MainConfigConverter;
 import com.github.lordrex34.config.postloadhooks.EmptyConfigPostLoadFieldHook;
@@ -84,9 +86,23 @@ public @interface ConfigField
 	 */
 	Class<? extends IConfigConverter> converter() default MainConfigConverter.class;
 	
+	/**
+	 * Whether the enum constants of an enum, enum array, enum collection, {@link java.util.EnumSet} or {@link com.github.lordrex34.config.lang.EnumMask} field are matched ignoring their case, if it is not ambiguous.<br>
+	 * By default the names have to match exactly.
+	 * @return ignore the case or not?
+	 */
+	boolean ignoreCase() default false;
+	
 	/**
 	 * Can be used to assign post-load events into a specific field.
 	 * @return the post load hook
 	 */
 	Class<? extends IConfigPostLoadFieldHook> postLoadHook() default EmptyConfigPostLoadFieldHook.class;
+	
+	/**
+	 * Can be used to get notified when the value of this field has changed during a reload.<br>
+	 * Unlike {@link #postLoadHook()}, it is not called when the reloaded value equals the previous one.
+	 * @return the change listener
+	 */
+	Class<? extends IConfigChangeListener> changeListener() default EmptyConfigChangeListener.class;
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.binder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds the generated {@link IConfigBinder} of configuration classes.
+ * @author lord_rex
+ */
+public final class ConfigBinders
+{
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConfigBinders.class);
+	
+	private ConfigBinders()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Finds and instantiates the generated binder of a configuration class.
+	 * @param clazz the configuration class
+	 * @return the binder, or {@code null} if there is no generated binder
+	 */
+	public static IConfigBinder find(Class<?> clazz)
+	{
+		final Class<?> binderClass;
+		try
+		{
+			binderClass = Class.forName(IConfigBinder.getBinderName(clazz.getName()), true, clazz.getClassLoader());
+		}
+		catch (ClassNotFoundException e)
+		{
+			return null;
+		}
+		
+		if (!IConfigBinder.class.isAssignableFrom(binderClass))
+		{
+			LOGGER.warn("Class {} is not a config binder, it is ignored!", binderClass.getName());
+			return null;
+		}
+		
+		try
+		{
+			return binderClass.asSubclass(IConfigBinder.class).getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException e)
+		{
+			LOGGER.warn("Failed to instantiate config binder {}, reflection is used instead!", binderClass.getName(), e);
+			return null;
+		}
+	}
+}
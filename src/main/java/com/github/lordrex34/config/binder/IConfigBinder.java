@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.binder;
+
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
+import com.github.lordrex34.config.lang.ConfigProperties;
+
+/**
+ * Binds the fields of a configuration class without reflection. Implementations are generated at compile time by {@link com.github.lordrex34.config.processor.ConfigBinderProcessor}.<br>
+ * Fields are identified by their name. Fields that are not bound (private fields, custom value suppliers) are loaded through reflection.
+ * @author lord_rex
+ */
+public interface IConfigBinder
+{
+	/** Returned by {@link #convert(String, String)} when the binder has no direct conversion for the field. */
+	Object NOT_CONVERTED = new Object();
+	
+	/** The suffix of the generated binder classes. */
+	String BINDER_SUFFIX = "_ConfigBinder";
+	
+	/**
+	 * Gets the name of the generated binder class of a configuration class. Nested classes are flattened, for example {@code a.Outer$Inner} becomes {@code a.Outer_Inner_ConfigBinder}.
+	 * @param binaryName the binary name of the configuration class
+	 * @return the name of the binder class
+	 */
+	static String getBinderName(String binaryName)
+	{
+		return binaryName.replace('$', '_') + BINDER_SUFFIX;
+	}
+	
+	/**
+	 * Checks whether the field is bound by this binder.
+	 * @param fieldName the name of the field
+	 * @return {@code true} if the field is bound, otherwise {@code false}
+	 */
+	boolean isBound(String fieldName);
+	
+	/**
+	 * Gets the value of a bound field.
+	 * @param fieldName the name of the field
+	 * @return the value of the field
+	 */
+	Object get(String fieldName);
+	
+	/**
+	 * Sets the value of a bound field.
+	 * @param fieldName the name of the field
+	 * @param value the new value of the field
+	 */
+	void set(String fieldName, Object value);
+	
+	/**
+	 * Converts the raw value of a field whose type is known by the {@link com.github.lordrex34.config.converter.MainConfigConverter}.
+	 * @param fieldName the name of the field
+	 * @param value the raw value
+	 * @return the converted value, or {@link #NOT_CONVERTED}
+	 */
+	Object convert(String fieldName, String value);
+	
+	/**
+	 * Invokes the post-load hook of a bound field.
+	 * @param fieldName the name of the field
+	 * @param components the components of the actual loading
+	 * @param properties the properties of the actual loading
+	 * @return {@code false} if the hook is not accessible from the binder, so it has to be invoked through reflection, otherwise {@code true}
+	 */
+	boolean postLoad(String fieldName, ConfigComponentRegistry components, ConfigProperties properties);
+	
+	/**
+	 * Invokes the post-load hook of the configuration class.
+	 * @param components the components of the actual loading
+	 * @return {@code false} if the hook is not accessible from the binder, so it has to be invoked through reflection, otherwise {@code true}
+	 */
+	boolean postLoad(ConfigComponentRegistry components);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.changelisteners;
+
+import java.lang.reflect.Field;
+
+/**
+ * Describes a single property whose converted value has changed during a reload.
+ * @author lord_rex
+ */
+public final class ConfigChangeEvent
+{
+	/** The property key. */
+	private final String _key;
+	
+	/** The field that holds the property. */
+	private final Field _field;
+	
+	/** The value before the reload. */
+	private final Object _oldValue;
+	
+	/** The value after the reload. */
+	private final Object _newValue;
+	
+	/**
+	 * Constructs a new change event.
+	 * @param key the property key
+	 * @param field the field that holds the property
+	 * @param oldValue the value before the reload
+	 * @param newValue the value after the reload
+	 */
+	public ConfigChangeEvent(String key, Field field, Object oldValue, Object newValue)
+	{
+		_key = key;
+		_field = field;
+		_oldValue = oldValue;
+		_newValue = newValue;
+	}
+	
+	public String getKey()
+	{
+		return _key;
+	}
+	
+	public Field getField()
+	{
+		return _field;
+	}
+	
+	public Object getOldValue()
+	{
+		return _oldValue;
+	}
+	
+	public Object getNewValue()
+	{
+		return _newValue;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.component;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.lordrex34.config.exception.ConfigComponentLoadingException;
+
+/**
+ * A registry to avoid creating the same component thousand times.<br>
+ * Components are keyed by their class object, so the same class name loaded by different class loaders never collides, and the lookup of an already created component is lock-free.<br>
+ * Each {@code ConfigManager} has its own registry, {@link ConfigComponents} holds the one used outside of managers.
+ * @author lord_rex
+ */
+public final class ConfigComponentRegistry
+{
+	/** The components registered in advance, they take precedence over reflective instantiation. */
+	private final Map<Class<?>, IConfigComponent> _registered = new ConcurrentHashMap<>();
+	
+	/** The reflectively created components. The registered ones are never cached here, so registering a component is a single atomic put, and a concurrent lookup can't cache a stale component. */
+	private final ClassValue<IConfigComponent> _components = new ClassValue<IConfigComponent>()
+	{
+		@Override
+		protected IConfigComponent computeValue(Class<?> componentClass)
+		{
+			return newInstance(componentClass);
+		}
+	};
+	
+	/**
+	 * Gets the component from the registry. If it is not present, then it gets registered automatically.
+	 * @param <T> any implementation of {@link IConfigComponent}
+	 * @param componentClass the class contained by the information holder annotation
+	 * @return component
+	 */
+	public <T extends IConfigComponent> T get(Class<T> componentClass)
+	{
+		final IConfigComponent component = _registered.get(componentClass);
+		return componentClass.cast(component != null ? component : _components.get(componentClass));
+	}
+	
+	/**
+	 * Registers an already created component, so it is not instantiated reflectively. Replaces the previously used component of the same class.
+	 * @param <T> any implementation of {@link IConfigComponent}
+	 * @param componentClass the class contained by the information holder annotation
+	 * @param component the component
+	 */
+	public <T extends IConfigComponent> void register(Class<T> componentClass, T component)
+	{
+		_registered.put(componentClass, componentClass.cast(component));
+	}
+	
+	/**
+	 * Unregisters a component, so it is going to be instantiated reflectively on the next access.
+	 * @param componentClass the class contained by the information holder annotation
+	 */
+	public void unregister(Class<? extends IConfigComponent> componentClass)
+	{
+		_registered.remove(componentClass);
+		
+		// the reflective instance created before the registration is not reused
+		_components.remove(componentClass);
+	}
+	
+	/**
+	 * Creates a new component through its no-arg constructor.
+	 * @param componentClass the class of the component
+	 * @return the new component
+	 */
+	private static IConfigComponent newInstance(Class<?> componentClass)
+	{
+		try
+		{
+			final Constructor<?> constructor = componentClass.getDeclaredConstructor();
+			constructor.setAccessible(true); // constructor.trySetAccessible();
+			return (IConfigComponent) constructor.newInstance();
+		}
+		catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException | ClassCastException e)
+		{
+			throw new ConfigComponentLoadingException("Component couldn't be loaded, please check!", e);
+		}
+	}
+}
@@ -21,21 +21,14 @@
  */
 package com.github.lordrex34.config.component;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
-
-import com.github.lordrex34.config.exception.ConfigComponentLoadingException;
-
 /**
- * A registry to avoid creating the same component thousand times.
+ * Gives access to the component registry that is used outside of the managers, such as during generation.
  * @author lord_rex
  */
 public final class ConfigComponents
 {
 	/** The registry. */
-	private static final Map<String, IConfigComponent> COMPONENTS = new HashMap<>();
+	private static final ConfigComponentRegistry REGISTRY = new ConfigComponentRegistry();
 	
 	private ConfigComponents()
 	{
@@ -48,21 +41,37 @@ public final class ConfigComponents
 	 * @param componentClass the class contained by the information holder annotation
 	 * @return component
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T extends IConfigComponent> T get(Class<T> componentClass)
 	{
-		return (T) COMPONENTS.computeIfAbsent(componentClass.getName(), k ->
-		{
-			try
-			{
-				final Constructor<T> constructor = componentClass.getDeclaredConstructor();
-				constructor.setAccessible(true); // constructor.trySetAccessible();
-				return constructor.newInstance();
-			}
-			catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException e)
-			{
-				throw new ConfigComponentLoadingException("Component couldn't be loaded, please check!", e);
-			}
-		});
+		return REGISTRY.get(componentClass);
+	}
+	
+	/**
+	 * Registers an already created component, so it is not instantiated reflectively. Replaces the previously used component of the same class.
+	 * @param <T> any implementation of {@link IConfigComponent}
+	 * @param componentClass the class contained by the information holder annotation
+	 * @param component the component
+	 */
+	public static <T extends IConfigComponent> void register(Class<T> componentClass, T component)
+	{
+		REGISTRY.register(componentClass, component);
+	}
+	
+	/**
+	 * Unregisters a component, so it is going to be instantiated reflectively on the next access.
+	 * @param componentClass the class contained by the information holder annotation
+	 */
+	public static void unregister(Class<? extends IConfigComponent> componentClass)
+	{
+		REGISTRY.unregister(componentClass);
+	}
+	
+	/**
+	 * Gets the registry used outside of the managers.
+	 * @return the registry
+	 */
+	public static ConfigComponentRegistry getRegistry()
+	{
+		return REGISTRY;
 	}
 }
@@ -21,8 +21,13 @@
  */
 package com.github.lordrex34.config.context;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import com.github.lordrex34.config.lang.ConfigProperties;
 import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.util.ConfigSnapshot;
 
 /**
  * Used for loading {@link ConfigClassInfo}.
@@ -31,6 +36,9 @@ import com.github.lordrex34.config.model.ConfigClassInfo;
 public final class ConfigClassLoadingContext extends ConfigLoadingContext
 {
 	private ConfigProperties _overriddenProperties;
+	private Executor _generationExecutor;
+	private List<CompletableFuture<Void>> _generations;
+	private ConfigSnapshot _snapshot;
 	
 	public ConfigProperties getOverriddenProperties()
 	{
@@ -41,4 +49,34 @@ public final class ConfigClassLoadingContext extends ConfigLoadingContext
 	{
 		_overriddenProperties = overriddenProperties;
 	}
+	
+	public Executor getGenerationExecutor()
+	{
+		return _generationExecutor;
+	}
+	
+	public void setGenerationExecutor(Executor generationExecutor)
+	{
+		_generationExecutor = generationExecutor;
+	}
+	
+	public List<CompletableFuture<Void>> getGenerations()
+	{
+		return _generations;
+	}
+	
+	public void setGenerations(List<CompletableFuture<Void>> generations)
+	{
+		_generations = generations;
+	}
+	
+	public ConfigSnapshot getSnapshot()
+	{
+		return _snapshot;
+	}
+	
+	public void setSnapshot(ConfigSnapshot snapshot)
+	{
+		_snapshot = snapshot;
+	}
 }
@@ -22,8 +22,13 @@
 package com.github.lordrex34.config.context;
 
 import java.nio.file.Path;
+import java.util.List;
 
+import com.github.lordrex34.config.changelisteners.ConfigChangeEvent;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
+import com.github.lordrex34.config.lang.ConfigDiagnostics;
 import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.util.ConfigPropertyRegistry;
 
 /**
  * @author lord_rex
@@ -33,6 +38,10 @@ abstract class ConfigLoadingContext
 	private ConfigProperties _properties;
 	private Path _configPath;
 	private Boolean _reloading;
+	private List<ConfigChangeEvent> _changes;
+	private ConfigComponentRegistry _components;
+	private ConfigPropertyRegistry _propertyRegistry;
+	private ConfigDiagnostics _diagnostics;
 	
 	public ConfigProperties getProperties()
 	{
@@ -63,4 +72,44 @@ abstract class ConfigLoadingContext
 	{
 		_reloading = reloading;
 	}
+	
+	public List<ConfigChangeEvent> getChanges()
+	{
+		return _changes;
+	}
+	
+	public void setChanges(List<ConfigChangeEvent> changes)
+	{
+		_changes = changes;
+	}
+	
+	public ConfigComponentRegistry getComponents()
+	{
+		return _components;
+	}
+	
+	public void setComponents(ConfigComponentRegistry components)
+	{
+		_components = components;
+	}
+	
+	public ConfigPropertyRegistry getPropertyRegistry()
+	{
+		return _propertyRegistry;
+	}
+	
+	public void setPropertyRegistry(ConfigPropertyRegistry propertyRegistry)
+	{
+		_propertyRegistry = propertyRegistry;
+	}
+	
+	public ConfigDiagnostics getDiagnostics()
+	{
+		return _diagnostics;
+	}
+	
+	public void setDiagnostics(ConfigDiagnostics diagnostics)
+	{
+		_diagnostics = diagnostics;
+	}
 }
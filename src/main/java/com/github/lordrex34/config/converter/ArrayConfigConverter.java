@@ -23,7 +23,8 @@ package com.github.lordrex34.config.converter;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.util.regex.Pattern;
+
+import com.github.lordrex34.config.lang.ValueSplitter;
 
 public class ArrayConfigConverter implements IConfigConverter
 {
@@ -37,7 +38,7 @@ public class ArrayConfigConverter implements IConfigConverter
 			return Array.newInstance(componentType, 0);
 		}
 		
-		final String[] splitted = Pattern.compile(getElementDelimiter(), Pattern.LITERAL).split(value);
+		final String[] splitted = ValueSplitter.literal(getElementDelimiter()).split(value);
 		final Object array = Array.newInstance(componentType, splitted.length);
 		
 		for (int i = 0; i < splitted.length; i++)
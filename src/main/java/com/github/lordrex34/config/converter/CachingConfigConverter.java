@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.converter;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+import com.github.lordrex34.config.lang.IntSet;
+
+/**
+ * A {@link MainConfigConverter} that shares the conversion results of immutable types through a {@link ConfigConversionCache}.<br>
+ * Arrays and collections are mutable, so they are always created, but their elements are served from the cache as well.<br>
+ * Usage: {@code @ConfigField(name = "...", value = "...", converter = CachingConfigConverter.class)}
+ * @author lord_rex
+ */
+public class CachingConfigConverter extends MainConfigConverter
+{
+	private final IConfigConverter _arrayConverter = new ArrayConfigConverter()
+	{
+		@Override
+		protected IConfigConverter getElementConverter()
+		{
+			return CachingConfigConverter.this;
+		}
+	};
+	
+	private final IConfigConverter _listConverter = new ListConfigConverter()
+	{
+		@Override
+		protected IConfigConverter getElementConverter()
+		{
+			return CachingConfigConverter.this;
+		}
+	};
+	
+	private final IConfigConverter _setConverter = new SetConfigConverter()
+	{
+		@Override
+		protected IConfigConverter getElementConverter()
+		{
+			return CachingConfigConverter.this;
+		}
+	};
+	
+	@Override
+	public Object convertFromString(Field field, Class<?> type, String value)
+	{
+		// the enum constants matched ignoring their case would be served to the exact fields as well
+		if (!isCacheable(type) || (type.isEnum() && isIgnoreCase(field)))
+		{
+			return super.convertFromString(field, type, value);
+		}
+		
+		return getConversionCache().get(type, value, () -> super.convertFromString(field, type, value));
+	}
+	
+	/**
+	 * Checks whether the conversion result of the type is immutable, so it can be shared.<br>
+	 * {@link java.net.InetAddress} is not cached, because its conversion may resolve a host name, and the result can change over time.
+	 * @param type the target type of the conversion
+	 * @return {@code true} if the result can be cached, otherwise {@code false}
+	 */
+	protected boolean isCacheable(Class<?> type)
+	{
+		//@formatter:off
+		return type.isPrimitive()
+			|| type.isEnum()
+			|| (type == Boolean.class)
+			|| (type == Long.class)
+			|| (type == Integer.class)
+			|| (type == Short.class)
+			|| (type == Byte.class)
+			|| (type == Double.class)
+			|| (type == Float.class)
+			|| (type == Pattern.class)
+			|| (type == Duration.class)
+			|| (type == Path.class)
+			|| (type == File.class)
+			|| (type == IntSet.class);
+		//@formatter:on
+	}
+	
+	/**
+	 * Gets the cache that holds the conversion results.
+	 * @return the conversion cache
+	 */
+	protected ConfigConversionCache getConversionCache()
+	{
+		return ConfigConversionCache.getInstance();
+	}
+	
+	@Override
+	protected IConfigConverter getArrayConverter()
+	{
+		return _arrayConverter;
+	}
+	
+	@Override
+	protected IConfigConverter getListConverter()
+	{
+		return _listConverter;
+	}
+	
+	@Override
+	protected IConfigConverter getSetConverter()
+	{
+		return _setConverter;
+	}
+	
+	private static final class SingletonHolder
+	{
+		static final CachingConfigConverter INSTANCE = new CachingConfigConverter();
+	}
+	
+	public static CachingConfigConverter getInstance()
+	{
+		return SingletonHolder.INSTANCE;
+	}
+}
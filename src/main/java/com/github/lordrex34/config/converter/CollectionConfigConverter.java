@@ -80,7 +80,7 @@ public abstract class CollectionConfigConverter implements IConfigConverter
 		
 		for (final String e : splitted)
 		{
-			result.add(getElementConverter().convertFromString(null, elementType, e));
+			result.add(getElementConverter().convertFromString(field, elementType, e));
 		}
 		return result;
 	}
@@ -110,10 +110,10 @@ public abstract class CollectionConfigConverter implements IConfigConverter
 		}
 		
 		final Iterator<?> it = col.iterator();
-		final StringBuilder sb = new StringBuilder().append(getElementConverter().convertToString(null, elementType, it.next()));
+		final StringBuilder sb = new StringBuilder().append(getElementConverter().convertToString(field, elementType, it.next()));
 		while (it.hasNext())
 		{
-			sb.append(',').append(getElementConverter().convertToString(null, elementType, it.next()));
+			sb.append(',').append(getElementConverter().convertToString(field, elementType, it.next()));
 		}
 		return sb.toString();
 	}
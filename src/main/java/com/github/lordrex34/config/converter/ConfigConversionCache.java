@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A size-bounded, least recently used cache of conversion results, keyed by the target type and the raw value.<br>
+ * It must be used only for immutable results, because the same instance is shared between every field that has the same raw value.
+ * @author lord_rex
+ */
+public final class ConfigConversionCache
+{
+	/** The default maximum amount of cached conversion results. */
+	public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+	
+	/** The cached conversion results in access order. */
+	private final LinkedHashMap<ConversionKey, Object> _cache;
+	
+	/** The maximum amount of cached conversion results. */
+	private volatile int _maximumSize;
+	
+	private final LongAdder _hitCount = new LongAdder();
+	private final LongAdder _missCount = new LongAdder();
+	private final LongAdder _evictionCount = new LongAdder();
+	
+	/**
+	 * Constructs a new conversion cache.
+	 * @param maximumSize the maximum amount of cached conversion results
+	 */
+	public ConfigConversionCache(int maximumSize)
+	{
+		setMaximumSize(maximumSize);
+		_cache = new LinkedHashMap<ConversionKey, Object>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 4361468361537011658L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ConversionKey, Object> eldest)
+			{
+				if (size() > _maximumSize)
+				{
+					_evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+	
+	/**
+	 * Gets the conversion result from the cache, or converts and caches it if it is not present.
+	 * @param type the target type of the conversion
+	 * @param value the raw value
+	 * @param converter the conversion that is called on cache miss
+	 * @return the conversion result
+	 */
+	public Object get(Class<?> type, String value, Supplier<Object> converter)
+	{
+		final ConversionKey key = new ConversionKey(type, value);
+		synchronized (_cache)
+		{
+			final Object result = _cache.get(key);
+			if (result != null)
+			{
+				_hitCount.increment();
+				return result;
+			}
+		}
+		
+		// Conversion happens outside of the lock, in the worst case the same value is converted twice.
+		_missCount.increment();
+		final Object result = converter.get();
+		if (result != null)
+		{
+			synchronized (_cache)
+			{
+				final Object previous = _cache.putIfAbsent(key, result);
+				if (previous != null)
+				{
+					return previous;
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Gets how many conversions were served from the cache.
+	 * @return the hit count
+	 */
+	public long getHitCount()
+	{
+		return _hitCount.sum();
+	}
+	
+	/**
+	 * Gets how many conversions had to be performed, because they were not present in the cache.
+	 * @return the miss count
+	 */
+	public long getMissCount()
+	{
+		return _missCount.sum();
+	}
+	
+	/**
+	 * Gets how many conversion results were evicted because the cache has reached its maximum size.
+	 * @return the eviction count
+	 */
+	public long getEvictionCount()
+	{
+		return _evictionCount.sum();
+	}
+	
+	/**
+	 * Gets the amount of the cached conversion results.
+	 * @return the size of the cache
+	 */
+	public int size()
+	{
+		synchronized (_cache)
+		{
+			return _cache.size();
+		}
+	}
+	
+	/**
+	 * Sets the maximum amount of cached conversion results. Already cached entries above the limit are evicted on the next insertion.
+	 * @param maximumSize the maximum size
+	 */
+	public void setMaximumSize(int maximumSize)
+	{
+		if (maximumSize < 1)
+		{
+			throw new IllegalArgumentException("Maximum size must be positive, but found: " + maximumSize + "!");
+		}
+		
+		_maximumSize = maximumSize;
+	}
+	
+	/**
+	 * Clears the cached conversion results, and resets the statistics.
+	 */
+	public void clear()
+	{
+		synchronized (_cache)
+		{
+			_cache.clear();
+		}
+		
+		_hitCount.reset();
+		_missCount.reset();
+		_evictionCount.reset();
+	}
+	
+	private static final class ConversionKey
+	{
+		private final Class<?> _type;
+		private final String _value;
+		
+		ConversionKey(Class<?> type, String value)
+		{
+			_type = type;
+			_value = value;
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return (31 * _type.hashCode()) + Objects.hashCode(_value);
+		}
+		
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj)
+			{
+				return true;
+			}
+			if (!(obj instanceof ConversionKey))
+			{
+				return false;
+			}
+			final ConversionKey other = (ConversionKey) obj;
+			return (_type == other._type) && Objects.equals(_value, other._value);
+		}
+	}
+	
+	private static final class SingletonHolder
+	{
+		static final ConfigConversionCache INSTANCE = new ConfigConversionCache(DEFAULT_MAXIMUM_SIZE);
+	}
+	
+	/**
+	 * Gets the cache shared by the {@link CachingConfigConverter}s.
+	 * @return the shared cache
+	 */
+	public static ConfigConversionCache getInstance()
+	{
+		return SingletonHolder.INSTANCE;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.converter;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+
+import com.github.lordrex34.config.lang.EnumLookup;
+import com.github.lordrex34.config.lang.EnumMask;
+import com.github.lordrex34.config.lang.FieldParser.FieldParserException;
+import com.github.lordrex34.config.lang.ValueSplitter;
+import com.github.lordrex34.reflection.util.GenericUtil;
+
+/**
+ * Converts comma separated enum constants into an {@link EnumSet} or an {@link EnumMask}, depending on the type of the field. The {@code *} wildcard stands for all the constants, like for the {@link java.util.Set} fields.<br>
+ * The element type is taken from the generic type of the field, for example {@code EnumSet<MyEnum>} or {@code EnumMask<MyEnum>}.
+ * @author lord_rex
+ */
+@SuppressWarnings(
+{
+	"unchecked",
+	"rawtypes"
+})
+public class EnumSetConfigConverter implements IConfigConverter
+{
+	@Override
+	public Object convertFromString(Field field, Class<?> type, String value)
+	{
+		final Class<? extends Enum> enumClass = GenericUtil.typeOf(field, 0).asSubclass(Enum.class);
+		final EnumSet set = parse(enumClass, value, MainConfigConverter.isIgnoreCase(field));
+		return type == EnumMask.class ? EnumMask.of(enumClass, set) : set;
+	}
+	
+	@Override
+	public String convertToString(Field field, Class<?> type, Object obj)
+	{
+		if (obj == null)
+		{
+			return "";
+		}
+		
+		final Collection<? extends Enum> col = (Collection<? extends Enum>) obj;
+		if (col.isEmpty())
+		{
+			return "";
+		}
+		
+		final Class<? extends Enum> enumClass = GenericUtil.typeOf(field, 0).asSubclass(Enum.class);
+		if (col.size() == enumClass.getEnumConstants().length)
+		{
+			return "*";
+		}
+		
+		final Iterator<? extends Enum> it = col.iterator();
+		final StringBuilder sb = new StringBuilder().append(it.next().name());
+		while (it.hasNext())
+		{
+			sb.append(',').append(it.next().name());
+		}
+		return sb.toString();
+	}
+	
+	private static EnumSet parse(Class<? extends Enum> enumClass, String value, boolean ignoreCase)
+	{
+		if (value.isEmpty())
+		{
+			return EnumSet.noneOf(enumClass);
+		}
+		
+		if ("*".equals(value))
+		{
+			return EnumSet.allOf(enumClass);
+		}
+		
+		final Enum[] constants = ValueSplitter.literal(",").splitToEnums(value, EnumLookup.of((Class) enumClass), ignoreCase);
+		if (constants == null)
+		{
+			throw new FieldParserException(enumClass, value);
+		}
+		
+		final EnumSet set = EnumSet.noneOf(enumClass);
+		Collections.addAll(set, constants);
+		return set;
+	}
+	
+	public static final EnumSetConfigConverter getInstance()
+	{
+		return SingletonHolder.INSTANCE;
+	}
+	
+	private static final class SingletonHolder
+	{
+		static final EnumSetConfigConverter INSTANCE = new EnumSetConfigConverter();
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.converter;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.github.lordrex34.config.lang.ImmutableSets;
+
+/**
+ * Creates an immutable {@link Set} optimized for {@link Set#contains(Object)}, see {@link ImmutableSets#copyOf(Collection)}.<br>
+ * The result is read-only, so it is safe to share across threads. Use it with {@code @ConfigField(converter = ImmutableSetConfigConverter.class)}.
+ * @author lord_rex
+ */
+public class ImmutableSetConfigConverter extends CollectionConfigConverter
+{
+	@Override
+	public Object convertFromString(Field field, Class<?> type, String value)
+	{
+		return ImmutableSets.copyOf((Collection<?>) super.convertFromString(field, type, value));
+	}
+	
+	@Override
+	protected Set<Object> createCollection(int size)
+	{
+		return new HashSet<>(size);
+	}
+	
+	@Override
+	protected <E> Set<E> emptyCollection()
+	{
+		return Collections.emptySet();
+	}
+	
+	public static final ImmutableSetConfigConverter getInstance()
+	{
+		return SingletonHolder.INSTANCE;
+	}
+	
+	private static final class SingletonHolder
+	{
+		static final ImmutableSetConfigConverter INSTANCE = new ImmutableSetConfigConverter();
+	}
+}
@@ -54,4 +54,14 @@ public final class InetAddressConfigConverter extends TypedConfigConverter<InetA
 	{
 		return InetAddress.class;
 	}
+	
+	public static final InetAddressConfigConverter getInstance()
+	{
+		return SingletonHolder.INSTANCE;
+	}
+	
+	private static final class SingletonHolder
+	{
+		static final InetAddressConfigConverter INSTANCE = new InetAddressConfigConverter();
+	}
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.converter;
+
+import java.lang.reflect.Field;
+import java.text.ParsePosition;
+import java.util.Collection;
+
+import com.github.lordrex34.config.lang.FieldParser.FieldParserException;
+import com.github.lordrex34.config.lang.IntSet;
+import com.github.lordrex34.config.lang.NumberParser;
+
+/**
+ * Converts comma separated values and ranges, like {@code 1,5,100-200}, into an {@link IntSet}, without boxing the values.<br>
+ * It is used for {@link IntSet} fields by default. {@code Set<Integer>} and {@code int[]} fields may use it by {@code @ConfigField(converter = IntSetConfigConverter.class)}, the latter ones get the distinct values in ascending order.
+ * @author lord_rex
+ */
+public class IntSetConfigConverter implements IConfigConverter
+{
+	@Override
+	public Object convertFromString(Field field, Class<?> type, String value)
+	{
+		final IntSet set = parse(value);
+		return type == int[].class ? set.toIntArray() : set;
+	}
+	
+	@Override
+	public String convertToString(Field field, Class<?> type, Object obj)
+	{
+		if (obj == null)
+		{
+			return "";
+		}
+		
+		// the ranges are not expanded, so a wide range is rendered without allocating its values
+		final int[] ranges = toIntSet(obj).toRanges();
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < ranges.length; i += 2)
+		{
+			final int from = ranges[i];
+			final int to = ranges[i + 1];
+			if (sb.length() > 0)
+			{
+				sb.append(',');
+			}
+			sb.append(from);
+			if (((long) to - from) > 1)
+			{
+				sb.append('-').append(to);
+			}
+			else if (to > from)
+			{
+				sb.append(',').append(to);
+			}
+		}
+		return sb.toString();
+	}
+	
+	private static IntSet toIntSet(Object obj)
+	{
+		if (obj instanceof IntSet)
+		{
+			return (IntSet) obj;
+		}
+		
+		if (obj instanceof int[])
+		{
+			return IntSet.of((int[]) obj);
+		}
+		
+		final IntSet.Builder builder = new IntSet.Builder();
+		for (Object element : (Collection<?>) obj)
+		{
+			builder.add(((Number) element).intValue());
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * Parses comma separated values and ranges. The elements are trimmed, and the empty ones are skipped.
+	 * @param value the value
+	 * @return the set of the values
+	 */
+	private static IntSet parse(String value)
+	{
+		final IntSet.Builder builder = new IntSet.Builder();
+		final ParsePosition position = new ParsePosition(0);
+		int start = 0;
+		while (start <= value.length())
+		{
+			int end = value.indexOf(',', start);
+			if (end < 0)
+			{
+				end = value.length();
+			}
+			
+			final int from = trimStart(value, start, end);
+			final int to = trimEnd(value, from, end);
+			
+			if (from < to)
+			{
+				// the first character may be the sign of the range start
+				int dash = from + 1;
+				while ((dash < to) && (value.charAt(dash) != '-'))
+				{
+					dash++;
+				}
+				
+				final int first = parseInt(value, from, dash < to ? trimEnd(value, from, dash) : to, position);
+				final int last = dash < to ? parseInt(value, trimStart(value, dash + 1, to), to, position) : first;
+				if (last < first)
+				{
+					throw new FieldParserException(IntSet.class, value.substring(from, to));
+				}
+				builder.addRange(first, last);
+			}
+			start = end + 1;
+		}
+		return builder.build();
+	}
+	
+	private static int parseInt(String value, int start, int end, ParsePosition position)
+	{
+		position.setErrorIndex(-1);
+		final long result = NumberParser.parseLong(value, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, NumberParser.RADIX_PREFIXES, position);
+		if (position.getErrorIndex() >= 0)
+		{
+			throw new FieldParserException(Integer.class, value.substring(start, end));
+		}
+		return (int) result;
+	}
+	
+	private static int trimStart(String value, int start, int end)
+	{
+		int index = start;
+		while ((index < end) && Character.isWhitespace(value.charAt(index)))
+		{
+			index++;
+		}
+		return index;
+	}
+	
+	private static int trimEnd(String value, int start, int end)
+	{
+		int index = end;
+		while ((index > start) && Character.isWhitespace(value.charAt(index - 1)))
+		{
+			index--;
+		}
+		return index;
+	}
+	
+	public static final IntSetConfigConverter getInstance()
+	{
+		return SingletonHolder.INSTANCE;
+	}
+	
+	private static final class SingletonHolder
+	{
+		static final IntSetConfigConverter INSTANCE = new IntSetConfigConverter();
+	}
+}
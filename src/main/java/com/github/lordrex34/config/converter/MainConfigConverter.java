@@ -23,13 +23,18 @@ package com.github.lordrex34.config.converter;
 
 import java.io.File;
 import java.lang.reflect.Field;
+import java.net.InetAddress;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.lang.EnumMask;
 import com.github.lordrex34.config.lang.FieldParser;
+import com.github.lordrex34.config.lang.IntSet;
 
 public class MainConfigConverter implements IConfigConverter
 {
@@ -51,6 +56,16 @@ public class MainConfigConverter implements IConfigConverter
 			return getSetConverter().convertFromString(field, type, value);
 		}
 		
+		if (type == IntSet.class)
+		{
+			return getIntSetConverter().convertFromString(field, type, value);
+		}
+		
+		if ((type == EnumSet.class) || (type == EnumMask.class))
+		{
+			return getEnumSetConverter().convertFromString(field, type, value);
+		}
+		
 		if (type == Path.class)
 		{
 			return getPathConverter().convertFromString(field, type, value);
@@ -71,6 +86,16 @@ public class MainConfigConverter implements IConfigConverter
 			return getDurationConverter().convertFromString(field, type, value);
 		}
 		
+		if (type == InetAddress.class)
+		{
+			return getInetAddressConverter().convertFromString(field, type, value);
+		}
+		
+		if (type.isEnum() && isIgnoreCase(field))
+		{
+			return getEnumIgnoringCase(type.asSubclass(Enum.class), value);
+		}
+		
 		return FieldParser.get(type, value);
 	}
 	
@@ -92,6 +117,16 @@ public class MainConfigConverter implements IConfigConverter
 			return getSetConverter().convertToString(field, type, obj);
 		}
 		
+		if (type == IntSet.class)
+		{
+			return getIntSetConverter().convertToString(field, type, obj);
+		}
+		
+		if ((type == EnumSet.class) || (type == EnumMask.class))
+		{
+			return getEnumSetConverter().convertToString(field, type, obj);
+		}
+		
 		if (type == Path.class)
 		{
 			return getPathConverter().convertToString(field, type, obj);
@@ -112,6 +147,11 @@ public class MainConfigConverter implements IConfigConverter
 			return getDurationConverter().convertToString(field, type, obj);
 		}
 		
+		if (type == InetAddress.class)
+		{
+			return getInetAddressConverter().convertToString(field, type, obj);
+		}
+		
 		if (obj == null)
 		{
 			return "";
@@ -120,6 +160,27 @@ public class MainConfigConverter implements IConfigConverter
 		return obj.toString();
 	}
 	
+	@SuppressWarnings(
+	{
+		"unchecked",
+		"rawtypes"
+	})
+	private static Object getEnumIgnoringCase(Class<? extends Enum> enumClass, String value)
+	{
+		return FieldParser.getEnum((Class) enumClass, value, true);
+	}
+	
+	/**
+	 * Checks whether the enum constants of a field are matched ignoring their case.
+	 * @param field the field, or {@code null}
+	 * @return {@link ConfigField#ignoreCase()} of the field, or {@code false} without a field
+	 */
+	static boolean isIgnoreCase(Field field)
+	{
+		final ConfigField configField = field != null ? field.getAnnotation(ConfigField.class) : null;
+		return (configField != null) && configField.ignoreCase();
+	}
+	
 	protected IConfigConverter getArrayConverter()
 	{
 		return ArrayConfigConverter.getInstance();
@@ -135,6 +196,16 @@ public class MainConfigConverter implements IConfigConverter
 		return SetConfigConverter.getInstance();
 	}
 	
+	protected IConfigConverter getIntSetConverter()
+	{
+		return IntSetConfigConverter.getInstance();
+	}
+	
+	protected IConfigConverter getEnumSetConverter()
+	{
+		return EnumSetConfigConverter.getInstance();
+	}
+	
 	protected IConfigConverter getPathConverter()
 	{
 		return PathConfigConverter.getInstance();
@@ -155,6 +226,11 @@ public class MainConfigConverter implements IConfigConverter
 		return DurationConfigConverter.getInstance();
 	}
 	
+	protected IConfigConverter getInetAddressConverter()
+	{
+		return InetAddressConfigConverter.getInstance();
+	}
+	
 	private static final class SingletonHolder
 	{
 		static final MainConfigConverter INSTANCE = new MainConfigConverter();
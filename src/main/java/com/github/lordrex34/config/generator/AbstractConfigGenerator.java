@@ -22,6 +22,14 @@
 package com.github.lordrex34.config.generator;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import com.github.lordrex34.config.annotation.ConfigClass;
 import com.github.lordrex34.config.model.ConfigClassInfo;
@@ -85,6 +93,117 @@ public abstract class AbstractConfigGenerator
 		generateAll(ClassLoader.getSystemClassLoader(), packageName);
 	}
 	
+	/**
+	 * Parallel version of {@link #generateAll(ClassLoader, String)}. The files are rendered concurrently on the given executor, and only the files whose content has changed are written.<br>
+	 * If several classes share the same file, only the last one is rendered, the same one that {@link #generateAll(ClassLoader, String)} leaves in the file.
+	 * @param classLoader the class loader that is used for the process
+	 * @param packageName the package where configuration related classes are stored
+	 * @param executor the executor that renders and writes the files
+	 * @return the number of written files
+	 * @throws IOException
+	 * @see ConfigClassInfo#generateIfChanged()
+	 */
+	public static int generateAll(ClassLoader classLoader, String packageName, Executor executor) throws IOException, InstantiationException, IllegalAccessException
+	{
+		// classes sharing the same file would overwrite each other concurrently, the last one wins as in the sequential generation
+		final Map<Path, ConfigClassInfo> configClassInfos = new LinkedHashMap<>();
+		for (Class<?> clazz : ClassPathUtil.getAllClassesAnnotatedWith(classLoader, packageName, ConfigClass.class))
+		{
+			final ConfigClassInfo configClassInfo = new ConfigClassInfo(clazz);
+			configClassInfos.put(configClassInfo.getConfigPath(), configClassInfo);
+		}
+		
+		final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+		for (ConfigClassInfo configClassInfo : configClassInfos.values())
+		{
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return configClassInfo.generateIfChanged();
+				}
+				catch (IOException | InstantiationException | IllegalAccessException e)
+				{
+					throw new CompletionException(e);
+				}
+			}, executor));
+		}
+		
+		// every file is finished before a failure is reported
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((v, e) -> null).join();
+		
+		int written = 0;
+		for (CompletableFuture<Boolean> future : futures)
+		{
+			try
+			{
+				if (future.join())
+				{
+					written++;
+				}
+			}
+			catch (CompletionException e)
+			{
+				final Throwable cause = e.getCause();
+				if (cause instanceof IOException)
+				{
+					throw (IOException) cause;
+				}
+				if (cause instanceof InstantiationException)
+				{
+					throw (InstantiationException) cause;
+				}
+				if (cause instanceof IllegalAccessException)
+				{
+					throw (IllegalAccessException) cause;
+				}
+				throw e;
+			}
+		}
+		return written;
+	}
+	
+	/**
+	 * Same as {@link #generateAll(ClassLoader, String, Executor)}, using {@link ClassLoader#getSystemClassLoader()} as the classLoader parameter.
+	 * @param packageName the package where configuration related classes are stored
+	 * @param executor the executor that renders and writes the files
+	 * @return the number of written files
+	 * @throws IOException
+	 */
+	public static int generateAll(String packageName, Executor executor) throws IOException, InstantiationException, IllegalAccessException
+	{
+		return generateAll(ClassLoader.getSystemClassLoader(), packageName, executor);
+	}
+	
+	/**
+	 * Appends the properties of the newly added fields to the existing properties files, keeping the rest of the files unchanged. The missing files are generated.
+	 * @param classLoader the class loader that is used for the process
+	 * @param packageName the package where configuration related classes are stored
+	 * @return the number of the appended properties
+	 * @throws IOException
+	 * @see ConfigClassInfo#mergeMissing()
+	 */
+	public static int mergeAll(ClassLoader classLoader, String packageName) throws IOException, InstantiationException, IllegalAccessException
+	{
+		int merged = 0;
+		for (Class<?> clazz : ClassPathUtil.getAllClassesAnnotatedWith(classLoader, packageName, ConfigClass.class))
+		{
+			merged += new ConfigClassInfo(clazz).mergeMissing();
+		}
+		return merged;
+	}
+	
+	/**
+	 * Same as {@link #mergeAll(ClassLoader, String)}, using {@link ClassLoader#getSystemClassLoader()} as the classLoader parameter.
+	 * @param packageName the package where configuration related classes are stored
+	 * @return the number of the appended properties
+	 * @throws IOException
+	 */
+	public static int mergeAll(String packageName) throws IOException, InstantiationException, IllegalAccessException
+	{
+		return mergeAll(ClassLoader.getSystemClassLoader(), packageName);
+	}
+	
 	/**
 	 * Gets the package name that is to be scanned for properties file generation.
 	 * @return the package name
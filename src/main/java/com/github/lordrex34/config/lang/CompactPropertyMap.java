@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable open addressing hash table of properties. The keys and the values are stored in a single array, without per-entry nodes.<br>
+ * The keys are interned, so the lookups with constant keys (for example the names of the {@link com.github.lordrex34.config.annotation.ConfigField}s) are usually matched by reference.
+ * @author lord_rex
+ */
+final class CompactPropertyMap extends AbstractMap<String, String> implements Serializable
+{
+	private static final long serialVersionUID = 4527380466711542316L;
+	
+	/** The keys at the even, their values at the odd indexes. Linear probing, at most half of the slots are used. */
+	private final String[] _table;
+	private final int _size;
+	
+	private transient Set<Entry<String, String>> _entrySet;
+	
+	/**
+	 * Copies a map into a compact table.
+	 * @param map the map to be copied, it must not contain {@code null} keys
+	 */
+	CompactPropertyMap(Map<String, String> map)
+	{
+		int capacity = 2;
+		while (capacity < (map.size() * 2))
+		{
+			capacity <<= 1;
+		}
+		
+		_table = new String[capacity * 2];
+		_size = map.size();
+		for (Entry<String, String> entry : map.entrySet())
+		{
+			final String key = entry.getKey().intern();
+			int slot = spread(key.hashCode()) & (capacity - 1);
+			while (_table[slot * 2] != null)
+			{
+				slot = (slot + 1) & (capacity - 1);
+			}
+			_table[slot * 2] = key;
+			_table[(slot * 2) + 1] = entry.getValue();
+		}
+	}
+	
+	private static int spread(int hashCode)
+	{
+		return hashCode ^ (hashCode >>> 16);
+	}
+	
+	/**
+	 * Finds the index of a key in the table.
+	 * @param key the key
+	 * @return the index of the key, or {@code -1} if the key is not present
+	 */
+	private int indexOf(Object key)
+	{
+		if (!(key instanceof String))
+		{
+			return -1;
+		}
+		
+		final int mask = (_table.length / 2) - 1;
+		int slot = spread(key.hashCode()) & mask;
+		while (true)
+		{
+			final String candidate = _table[slot * 2];
+			if (candidate == null)
+			{
+				return -1;
+			}
+			if ((candidate == key) || candidate.equals(key))
+			{
+				return slot * 2;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+	
+	@Override
+	public String get(Object key)
+	{
+		final int index = indexOf(key);
+		return index >= 0 ? _table[index + 1] : null;
+	}
+	
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return indexOf(key) >= 0;
+	}
+	
+	@Override
+	public int size()
+	{
+		return _size;
+	}
+	
+	@Override
+	public Set<Entry<String, String>> entrySet()
+	{
+		Set<Entry<String, String>> entrySet = _entrySet;
+		if (entrySet == null)
+		{
+			entrySet = _entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+	
+	private final class EntrySet extends AbstractSet<Entry<String, String>>
+	{
+		@Override
+		public Iterator<Entry<String, String>> iterator()
+		{
+			return new Iterator<Entry<String, String>>()
+			{
+				private int _index = advance(0);
+				
+				private int advance(int from)
+				{
+					int index = from;
+					while ((index < _table.length) && (_table[index] == null))
+					{
+						index += 2;
+					}
+					return index;
+				}
+				
+				@Override
+				public boolean hasNext()
+				{
+					return _index < _table.length;
+				}
+				
+				@Override
+				public Entry<String, String> next()
+				{
+					if (!hasNext())
+					{
+						throw new NoSuchElementException();
+					}
+					
+					final Entry<String, String> entry = new SimpleImmutableEntry<>(_table[_index], _table[_index + 1]);
+					_index = advance(_index + 2);
+					return entry;
+				}
+			};
+		}
+		
+		@Override
+		public int size()
+		{
+			return _size;
+		}
+	}
+}
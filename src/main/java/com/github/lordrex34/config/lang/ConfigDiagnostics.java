@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates the missing and invalid property warnings of {@link ConfigProperties}. Every {@link com.github.lordrex34.config.ConfigManager} has its own instance.<br>
+ * Every occurrence is counted per source, key and reason, but a warning is logged only once per key in each load generation. The suppressed ones are reported by {@link #logSummary()} at the end of the load.<br>
+ * The number of the tracked keys is limited, the keys that haven't occurred in a whole load generation are evicted when the next one starts. The occurrences of the keys over the limit are counted together, per reason, and they are always logged, because they cannot be told apart.<br>
+ * The repeated path is lock-free, and it doesn't allocate.
+ * @author lord_rex
+ */
+public final class ConfigDiagnostics
+{
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConfigDiagnostics.class);
+	
+	/**
+	 * The reasons of the warnings.
+	 */
+	public enum Reason
+	{
+		MISSING,
+		INVALID
+	}
+	
+	/** The default maximum amount of the tracked keys. */
+	public static final int DEFAULT_MAXIMUM_KEYS = 1024;
+	
+	/** The counters by reason, source and key. */
+	private final Map<Reason, Map<String, Map<String, Counter>>> _counters = new EnumMap<>(Reason.class);
+	
+	/** The counters of the occurrences of the keys over the limit, by reason. */
+	private final Map<Reason, Counter> _untrackedCounters = new EnumMap<>(Reason.class);
+	
+	private final int _maximumKeys;
+	private final AtomicInteger _trackedKeys = new AtomicInteger();
+	
+	/** The actual load generation. */
+	private final AtomicInteger _generation = new AtomicInteger();
+	
+	public ConfigDiagnostics()
+	{
+		this(DEFAULT_MAXIMUM_KEYS);
+	}
+	
+	/**
+	 * Creates the diagnostics with a limited amount of tracked keys.
+	 * @param maximumKeys the maximum amount of the tracked keys
+	 */
+	public ConfigDiagnostics(int maximumKeys)
+	{
+		_maximumKeys = maximumKeys;
+		for (Reason reason : Reason.values())
+		{
+			_counters.put(reason, new ConcurrentHashMap<>());
+			_untrackedCounters.put(reason, new Counter());
+		}
+	}
+	
+	/**
+	 * Records an occurrence of a warning.
+	 * @param reason the reason of the warning
+	 * @param source the source of the property, for example the properties file
+	 * @param key the key of the property
+	 * @return {@code true} if the warning has to be logged, {@code false} if it was already logged in this load generation
+	 */
+	public boolean record(Reason reason, String source, String key)
+	{
+		final Counter counter = getCounter(reason, source, key);
+		counter._count.increment();
+		
+		final int generation = _generation.get();
+		if (counter == _untrackedCounters.get(reason))
+		{
+			if (counter.markWarned(generation))
+			{
+				LOGGER.warn("Config diagnostics key limit of {} is reached, further {} property warnings are not aggregated in this load.", _maximumKeys, reason);
+			}
+			return true;
+		}
+		return counter.markWarned(generation);
+	}
+	
+	private Counter getCounter(Reason reason, String source, String key)
+	{
+		final Map<String, Map<String, Counter>> bySource = _counters.get(reason);
+		Map<String, Counter> byKey = bySource.get(source);
+		if (byKey == null)
+		{
+			byKey = bySource.computeIfAbsent(source, k -> new ConcurrentHashMap<>());
+		}
+		
+		Counter counter = byKey.get(key);
+		if (counter == null)
+		{
+			if (_trackedKeys.get() >= _maximumKeys)
+			{
+				return _untrackedCounters.get(reason);
+			}
+			
+			counter = byKey.computeIfAbsent(key, k ->
+			{
+				_trackedKeys.incrementAndGet();
+				return new Counter();
+			});
+		}
+		return counter;
+	}
+	
+	/**
+	 * Gets the number of the occurrences of a warning in this load generation.
+	 * @param reason the reason of the warning
+	 * @param source the source of the property
+	 * @param key the key of the property
+	 * @return the number of the occurrences
+	 */
+	public long getCount(Reason reason, String source, String key)
+	{
+		final Map<String, Counter> byKey = _counters.get(reason).get(source);
+		final Counter counter = byKey != null ? byKey.get(key) : null;
+		return counter != null ? counter._count.sum() : 0;
+	}
+	
+	/**
+	 * Gets the number of the occurrences of the keys over the limit in this load generation.
+	 * @param reason the reason of the warnings
+	 * @return the number of the occurrences
+	 */
+	public long getUntrackedCount(Reason reason)
+	{
+		return _untrackedCounters.get(reason)._count.sum();
+	}
+	
+	/**
+	 * Gets the number of the tracked keys.
+	 * @return the number of the tracked keys
+	 */
+	public int getTrackedKeys()
+	{
+		return _trackedKeys.get();
+	}
+	
+	/**
+	 * Starts a new load generation. The keys which haven't occurred in the previous generation are evicted, the other counters are reset, and every warning is logged again once.
+	 */
+	public void nextGeneration()
+	{
+		_generation.incrementAndGet();
+		_counters.values().forEach(bySource -> bySource.values().forEach(byKey -> byKey.values().removeIf(counter ->
+		{
+			if (counter._count.sumThenReset() > 0)
+			{
+				return false;
+			}
+			
+			_trackedKeys.decrementAndGet();
+			return true;
+		})));
+		_untrackedCounters.values().forEach(counter -> counter._count.reset());
+	}
+	
+	/**
+	 * Logs the summary of the warnings of this load generation.
+	 */
+	public void logSummary()
+	{
+		final Map<Reason, long[]> totals = new EnumMap<>(Reason.class);
+		for (Entry<Reason, Map<String, Map<String, Counter>>> reasonEntry : _counters.entrySet())
+		{
+			final long[] total = new long[3]; // occurrences, keys, suppressed
+			for (Entry<String, Map<String, Counter>> sourceEntry : reasonEntry.getValue().entrySet())
+			{
+				for (Entry<String, Counter> keyEntry : sourceEntry.getValue().entrySet())
+				{
+					final long count = keyEntry.getValue()._count.sum();
+					if (count > 0)
+					{
+						total[0] += count;
+						total[1]++;
+						total[2] += count - 1;
+						LOGGER.debug("[{}] {} property for key: {} occurred {} time(s).", sourceEntry.getKey(), reasonEntry.getKey(), keyEntry.getKey(), count);
+					}
+				}
+			}
+			
+			final long untracked = _untrackedCounters.get(reasonEntry.getKey())._count.sum();
+			if (untracked > 0)
+			{
+				// every one of them was logged, none is suppressed
+				total[0] += untracked;
+				LOGGER.debug("{} property for the keys over the limit of {} occurred {} time(s).", reasonEntry.getKey(), _maximumKeys, untracked);
+			}
+			totals.put(reasonEntry.getKey(), total);
+		}
+		
+		final long[] missing = totals.get(Reason.MISSING);
+		final long[] invalid = totals.get(Reason.INVALID);
+		if ((missing[0] + invalid[0]) > 0)
+		{
+			final long suppressed = missing[2] + invalid[2];
+			LOGGER.warn("Config diagnostics: {} missing property lookup(s) for {} key(s), {} invalid value(s) for {} key(s), {} repeated warning(s) suppressed.", missing[0], missing[1], invalid[0], invalid[1], suppressed);
+		}
+	}
+	
+	/**
+	 * The counter of a warning.
+	 */
+	private static final class Counter
+	{
+		private static final AtomicIntegerFieldUpdater<Counter> WARNED_GENERATION = AtomicIntegerFieldUpdater.newUpdater(Counter.class, "_warnedGeneration");
+		
+		final LongAdder _count = new LongAdder();
+		
+		/** The last load generation, in which the warning has been logged. */
+		volatile int _warnedGeneration = -1;
+		
+		/**
+		 * Marks the warning as logged in a generation.
+		 * @param generation the actual load generation
+		 * @return {@code true} if it was not logged in that generation yet, otherwise {@code false}
+		 */
+		boolean markWarned(int generation)
+		{
+			final int warnedGeneration = _warnedGeneration;
+			return (warnedGeneration != generation) && WARNED_GENERATION.compareAndSet(this, warnedGeneration, generation);
+		}
+	}
+}
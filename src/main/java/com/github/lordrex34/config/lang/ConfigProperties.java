@@ -25,10 +25,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
-import java.lang.reflect.Array;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.text.ParsePosition;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -46,6 +47,7 @@ import org.slf4j.LoggerFactory;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
+import com.github.lordrex34.config.lang.ConfigDiagnostics.Reason;
 import com.github.lordrex34.config.util.TimeUtil;
 
 /**
@@ -63,8 +65,15 @@ public class ConfigProperties implements Serializable
 	
 	public static final ConfigProperties EMPTY = new ConfigProperties(Collections.emptyMap());
 	
-	private final Map<String, String> _map;
+	/** The properties, with trimmed values. A {@link CompactPropertyMap} once the properties are loaded, see {@link #compact()}. */
+	private Map<String, String> _map;
 	private String _loggingPrefix = getClass().getSimpleName();
+	private transient volatile ConfigDiagnostics _diagnostics;
+	
+	/** The parsed values of the numeric getters by key. Dropped by the modifications, and validated against the actual value on use. */
+	private transient volatile Map<String, ParsedNumber> _parsedIntegers;
+	private transient volatile Map<String, ParsedNumber> _parsedDoubles;
+	private transient volatile Map<String, ParsedNumber> _parsedFloats;
 	
 	// ===================================================================================
 	// Default constructors
@@ -87,6 +96,7 @@ public class ConfigProperties implements Serializable
 		this();
 		_loggingPrefix = path.toString();
 		load(path);
+		compact();
 	}
 	
 	public ConfigProperties(File file) throws IOException
@@ -94,6 +104,7 @@ public class ConfigProperties implements Serializable
 		this();
 		_loggingPrefix = file.toString();
 		load(file);
+		compact();
 	}
 	
 	public ConfigProperties(String name) throws IOException
@@ -101,24 +112,28 @@ public class ConfigProperties implements Serializable
 		this();
 		_loggingPrefix = name;
 		load(name);
+		compact();
 	}
 	
 	public ConfigProperties(Node node)
 	{
 		this();
 		load(node);
+		compact();
 	}
 	
 	public ConfigProperties(Properties properties)
 	{
 		this();
 		load(properties);
+		compact();
 	}
 	
 	public ConfigProperties(ConfigProperties properties)
 	{
 		this();
 		load(properties);
+		compact();
 	}
 	
 	// ===================================================================================
@@ -179,17 +194,26 @@ public class ConfigProperties implements Serializable
 	
 	public String setProperty(String key, String value)
 	{
-		return _map.put(key, value);
+		invalidateParsedValues(key);
+		return mutableMap().put(key, trim(value));
 	}
 	
 	public String setProperty(Object key, Object value)
 	{
-		return _map.put(String.valueOf(key), String.valueOf(value));
+		return setProperty(String.valueOf(key), String.valueOf(value));
 	}
 	
 	public void clear()
 	{
-		_map.clear();
+		invalidateParsedValues(null);
+		if (_map instanceof CompactPropertyMap)
+		{
+			_map = new HashMap<>();
+		}
+		else
+		{
+			_map.clear();
+		}
 	}
 	
 	public int size()
@@ -212,8 +236,9 @@ public class ConfigProperties implements Serializable
 	
 	public String getProperty(String key)
 	{
-		final String value = _map.get(key);
-		return value != null ? value.trim() : null;
+		// The values are trimmed when stored, so trim() returns the same instance without allocation.
+		// It still matters for the maps wrapped by ConfigProperties(Map).
+		return trim(_map.get(key));
 	}
 	
 	public String getProperty(String key, String defaultValue)
@@ -221,7 +246,10 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		return value;
@@ -235,7 +263,10 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
@@ -249,7 +280,10 @@ public class ConfigProperties implements Serializable
 		}
 		else
 		{
-			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"boolean\" using default value: {}", _loggingPrefix, key, value, defaultValue);
+			if (shouldWarn(Reason.INVALID, key))
+			{
+				LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"boolean\" using default value: {}", _loggingPrefix, key, value, defaultValue);
+			}
 			return defaultValue;
 		}
 	}
@@ -259,19 +293,24 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final ParsedNumber parsed = parseInteger(key, value);
+		if (parsed.isValid() && (parsed.getLong() >= Byte.MIN_VALUE) && (parsed.getLong() <= Byte.MAX_VALUE))
 		{
-			return Byte.parseByte(value);
+			return (byte) parsed.getLong();
 		}
-		catch (NumberFormatException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"byte\" using default value: {}", _loggingPrefix, key, value, defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public short getShort(String key, short defaultValue)
@@ -279,19 +318,24 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final ParsedNumber parsed = parseInteger(key, value);
+		if (parsed.isValid() && (parsed.getLong() >= Short.MIN_VALUE) && (parsed.getLong() <= Short.MAX_VALUE))
 		{
-			return Short.parseShort(value);
+			return (short) parsed.getLong();
 		}
-		catch (NumberFormatException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"short\" using default value: {}", _loggingPrefix, key, value, defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public int getInt(String key, int defaultValue)
@@ -299,19 +343,24 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final ParsedNumber parsed = parseInteger(key, value);
+		if (parsed.isValid() && (parsed.getLong() >= Integer.MIN_VALUE) && (parsed.getLong() <= Integer.MAX_VALUE))
 		{
-			return Integer.parseInt(value);
+			return (int) parsed.getLong();
 		}
-		catch (NumberFormatException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"int\" using default value: {}", _loggingPrefix, key, value, defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public long getLong(String key, long defaultValue)
@@ -319,19 +368,24 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final ParsedNumber parsed = parseInteger(key, value);
+		if (parsed.isValid())
 		{
-			return Long.parseLong(value);
+			return parsed.getLong();
 		}
-		catch (NumberFormatException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"long\" using default value: {}", _loggingPrefix, key, value, defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public float getFloat(String key, float defaultValue)
@@ -339,19 +393,24 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final ParsedNumber parsed = parseFloat(key, value);
+		if (parsed.isValid())
 		{
-			return Float.parseFloat(value);
+			return parsed.getFloat();
 		}
-		catch (NumberFormatException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"float\" using default value: {}", _loggingPrefix, key, value, defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public double getDouble(String key, double defaultValue)
@@ -359,19 +418,24 @@ public class ConfigProperties implements Serializable
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final ParsedNumber parsed = parseDouble(key, value);
+		if (parsed.isValid())
 		{
-			return Double.parseDouble(value);
+			return parsed.getDouble();
 		}
-		catch (NumberFormatException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be \"double\" using default value: {}", _loggingPrefix, key, value, defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public String getString(String key, String defaultValue)
@@ -380,23 +444,42 @@ public class ConfigProperties implements Serializable
 	}
 	
 	public <T extends Enum<T>> T getEnum(String key, Class<T> clazz, T defaultValue)
+	{
+		return getEnum(key, clazz, defaultValue, false);
+	}
+	
+	/**
+	 * Gets an enum constant by its name.
+	 * @param <T> the type of the enum
+	 * @param key the key of the property
+	 * @param clazz the enum class
+	 * @param defaultValue the value used if the property is missing or invalid
+	 * @param ignoreCase whether a name differing only in its case is accepted too, if it is not ambiguous
+	 * @return the enum constant
+	 */
+	public <T extends Enum<T>> T getEnum(String key, Class<T> clazz, T defaultValue, boolean ignoreCase)
 	{
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValue);
+			}
 			return defaultValue;
 		}
 		
-		try
+		final T constant = EnumLookup.of(clazz).get(value, ignoreCase);
+		if (constant != null)
 		{
-			return Enum.valueOf(clazz, value);
+			return constant;
 		}
-		catch (IllegalArgumentException e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be enum value of \"{}\" using default value: {}", _loggingPrefix, key, value, clazz.getSimpleName(), defaultValue);
-			return defaultValue;
 		}
+		return defaultValue;
 	}
 	
 	public Duration getDuration(String durationPattern, String defaultValue)
@@ -413,7 +496,10 @@ public class ConfigProperties implements Serializable
 		}
 		catch (IllegalStateException e)
 		{
-			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {] should be time patttern using default value: {}", _loggingPrefix, durationPattern, value, defaultValue);
+			if (shouldWarn(Reason.INVALID, durationPattern))
+			{
+				LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be time pattern using default value: {}", _loggingPrefix, durationPattern, value, defaultValue);
+			}
 		}
 		return defaultDuration;
 	}
@@ -423,80 +509,343 @@ public class ConfigProperties implements Serializable
 		final String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValues);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValues);
+			}
 			return defaultValues;
 		}
 		
 		try
 		{
-			final String[] data = value.trim().split(separator);
-			int[] result = new int[data.length];
-			for (int i = 0; i < data.length; i++)
-			{
-				result[i] = Integer.decode(data[i].trim());
-			}
-			return result;
+			return ValueSplitter.of(separator).splitToInts(value);
 		}
 		catch (Exception e)
 		{
-			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be array using default value: {}", _loggingPrefix, key, value, defaultValues);
+			if (shouldWarn(Reason.INVALID, key))
+			{
+				LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be array using default value: {}", _loggingPrefix, key, value, defaultValues);
+			}
 			return defaultValues;
 		}
 	}
 	
 	@SafeVarargs
 	public final <T extends Enum<T>> T[] getEnumArray(String key, String separator, Class<T> clazz, T... defaultValues)
+	{
+		return getEnumArray(key, separator, clazz, false, defaultValues);
+	}
+	
+	/**
+	 * Gets an array of enum constants by their names.
+	 * @param <T> the type of the enum
+	 * @param key the key of the property
+	 * @param separator the separator of the names
+	 * @param clazz the enum class
+	 * @param ignoreCase whether the names differing only in their case are accepted too, if they are not ambiguous
+	 * @param defaultValues the values used if the property is missing or invalid
+	 * @return the enum constants
+	 */
+	@SafeVarargs
+	public final <T extends Enum<T>> T[] getEnumArray(String key, String separator, Class<T> clazz, boolean ignoreCase, T... defaultValues)
 	{
 		final String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValues);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValues);
+			}
 			return defaultValues;
 		}
 		
-		try
+		final T[] result = ValueSplitter.of(separator).splitToEnums(value, EnumLookup.of(clazz), ignoreCase);
+		if (result != null)
 		{
-			final String[] data = value.trim().split(separator);
-			@SuppressWarnings("unchecked")
-			final T[] result = (T[]) Array.newInstance(clazz, data.length);
-			for (int i = 0; i < data.length; i++)
-			{
-				result[i] = Enum.valueOf(clazz, data[i]);
-			}
 			return result;
 		}
-		catch (Exception e)
+		
+		if (shouldWarn(Reason.INVALID, key))
 		{
 			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be array using default value: {}", _loggingPrefix, key, value, defaultValues);
-			return defaultValues;
 		}
+		return defaultValues;
 	}
 	
 	@SafeVarargs
 	public final <T extends Enum<T>> List<T> getEnumList(String key, String separator, Class<T> clazz, T... defaultValues)
+	{
+		return getEnumList(key, separator, clazz, false, defaultValues);
+	}
+	
+	/**
+	 * Gets a list of enum constants by their names.
+	 * @param <T> the type of the enum
+	 * @param key the key of the property
+	 * @param separator the separator of the names
+	 * @param clazz the enum class
+	 * @param ignoreCase whether the names differing only in their case are accepted too, if they are not ambiguous
+	 * @param defaultValues the values used if the property is missing or invalid
+	 * @return the enum constants
+	 */
+	@SafeVarargs
+	public final <T extends Enum<T>> List<T> getEnumList(String key, String separator, Class<T> clazz, boolean ignoreCase, T... defaultValues)
 	{
 		String value = getProperty(key);
 		if (value == null)
 		{
-			LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValues);
+			if (shouldWarn(Reason.MISSING, key))
+			{
+				LOGGER.warn("[{}] missing property for key: {} using default value: {}", _loggingPrefix, key, defaultValues);
+			}
 			return Arrays.asList(defaultValues);
 		}
 		
-		try
+		final T[] result = ValueSplitter.of(separator).splitToEnums(value, EnumLookup.of(clazz), ignoreCase);
+		if (result != null)
 		{
-			final String[] data = value.trim().split(separator);
-			final List<T> result = new ArrayList<>(data.length);
-			for (String element : data)
+			return new ArrayList<>(Arrays.asList(result));
+		}
+		
+		if (shouldWarn(Reason.INVALID, key))
+		{
+			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be array using default value: {}", _loggingPrefix, key, value, defaultValues);
+		}
+		return Arrays.asList(defaultValues);
+	}
+	
+	// ===================================================================================
+	// Diagnostics
+	
+	/**
+	 * Records a warning in the {@link ConfigDiagnostics}, if there are any.
+	 * @param reason the reason of the warning
+	 * @param key the key of the property
+	 * @return {@code true} if the warning has to be logged, {@code false} if it has been logged already in this load generation
+	 */
+	private boolean shouldWarn(Reason reason, String key)
+	{
+		final ConfigDiagnostics diagnostics = _diagnostics;
+		return (diagnostics == null) || diagnostics.record(reason, _loggingPrefix, key);
+	}
+	
+	/**
+	 * Sets the diagnostics that aggregate the warnings of these properties. Without diagnostics every warning is logged.
+	 * @param diagnostics the diagnostics, or {@code null}
+	 */
+	public void setDiagnostics(ConfigDiagnostics diagnostics)
+	{
+		_diagnostics = diagnostics;
+	}
+	
+	/**
+	 * Sets the prefix of the warnings, for example the path of the properties file.
+	 * @param loggingPrefix the prefix of the warnings
+	 */
+	public void setLoggingPrefix(String loggingPrefix)
+	{
+		_loggingPrefix = loggingPrefix;
+	}
+	
+	// ===================================================================================
+	// Parsed value caches
+	
+	/**
+	 * Gets the parsed integral value of a property, from the cache if the value hasn't changed since it was parsed.
+	 * @param key the key of the property
+	 * @param value the actual value of the property
+	 * @return the parsed value
+	 */
+	private ParsedNumber parseInteger(String key, String value)
+	{
+		Map<String, ParsedNumber> cache = _parsedIntegers;
+		if (cache == null)
+		{
+			_parsedIntegers = cache = new ConcurrentHashMap<>();
+		}
+		
+		ParsedNumber parsed = cache.get(key);
+		if ((parsed == null) || !parsed.isParsedFrom(value))
+		{
+			parsed = ParsedNumber.ofLong(value);
+			cache.put(key, parsed);
+		}
+		return parsed;
+	}
+	
+	/**
+	 * Gets the parsed {@code double} value of a property, from the cache if the value hasn't changed since it was parsed.
+	 * @param key the key of the property
+	 * @param value the actual value of the property
+	 * @return the parsed value
+	 */
+	private ParsedNumber parseDouble(String key, String value)
+	{
+		Map<String, ParsedNumber> cache = _parsedDoubles;
+		if (cache == null)
+		{
+			_parsedDoubles = cache = new ConcurrentHashMap<>();
+		}
+		
+		ParsedNumber parsed = cache.get(key);
+		if ((parsed == null) || !parsed.isParsedFrom(value))
+		{
+			parsed = ParsedNumber.ofDouble(value);
+			cache.put(key, parsed);
+		}
+		return parsed;
+	}
+	
+	/**
+	 * Gets the parsed {@code float} value of a property, from the cache if the value hasn't changed since it was parsed.
+	 * @param key the key of the property
+	 * @param value the actual value of the property
+	 * @return the parsed value
+	 */
+	private ParsedNumber parseFloat(String key, String value)
+	{
+		Map<String, ParsedNumber> cache = _parsedFloats;
+		if (cache == null)
+		{
+			_parsedFloats = cache = new ConcurrentHashMap<>();
+		}
+		
+		ParsedNumber parsed = cache.get(key);
+		if ((parsed == null) || !parsed.isParsedFrom(value))
+		{
+			parsed = ParsedNumber.ofFloat(value);
+			cache.put(key, parsed);
+		}
+		return parsed;
+	}
+	
+	/**
+	 * Drops the parsed values of a property.
+	 * @param key the key of the property, or {@code null} to drop every parsed value
+	 */
+	private void invalidateParsedValues(String key)
+	{
+		if (key == null)
+		{
+			_parsedIntegers = null;
+			_parsedDoubles = null;
+			_parsedFloats = null;
+			return;
+		}
+		
+		for (Map<String, ParsedNumber> cache : Arrays.asList(_parsedIntegers, _parsedDoubles, _parsedFloats))
+		{
+			if (cache != null)
 			{
-				result.add(Enum.valueOf(clazz, element));
+				cache.remove(key);
 			}
-			return result;
 		}
-		catch (Exception e)
+	}
+	
+	/**
+	 * An immutable parsed number, together with the value it has been parsed from. Floating point values are stored by their raw bits.
+	 */
+	private static final class ParsedNumber
+	{
+		private final String _source;
+		private final boolean _valid;
+		private final long _bits;
+		
+		private ParsedNumber(String source, boolean valid, long bits)
 		{
-			LOGGER.warn("[{}] Invalid value specified for key: {} specified value: {} should be array using default value: {}", _loggingPrefix, key, value, defaultValues);
-			return Arrays.asList(defaultValues);
+			_source = source;
+			_valid = valid;
+			_bits = bits;
+		}
+		
+		static ParsedNumber ofLong(String value)
+		{
+			final ParsePosition position = new ParsePosition(0);
+			final long result = NumberParser.parseLong(value, 0, value.length(), Long.MIN_VALUE, Long.MAX_VALUE, 0, position);
+			return new ParsedNumber(value, position.getErrorIndex() < 0, result);
+		}
+		
+		static ParsedNumber ofDouble(String value)
+		{
+			try
+			{
+				return new ParsedNumber(value, true, Double.doubleToRawLongBits(Double.parseDouble(value)));
+			}
+			catch (NumberFormatException e)
+			{
+				return new ParsedNumber(value, false, 0);
+			}
+		}
+		
+		static ParsedNumber ofFloat(String value)
+		{
+			try
+			{
+				return new ParsedNumber(value, true, Float.floatToRawIntBits(Float.parseFloat(value)));
+			}
+			catch (NumberFormatException e)
+			{
+				return new ParsedNumber(value, false, 0);
+			}
+		}
+		
+		boolean isParsedFrom(String value)
+		{
+			// the same instance in the common case, so it is a reference comparison
+			return value.equals(_source);
+		}
+		
+		boolean isValid()
+		{
+			return _valid;
+		}
+		
+		long getLong()
+		{
+			return _bits;
+		}
+		
+		double getDouble()
+		{
+			return Double.longBitsToDouble(_bits);
+		}
+		
+		float getFloat()
+		{
+			return Float.intBitsToFloat((int) _bits);
+		}
+	}
+	
+	// ===================================================================================
+	// Storage
+	
+	/**
+	 * Replaces the backing map by a compact, immutable table, which has no per-entry overhead. The loading constructors call it once the properties are loaded.<br>
+	 * A later modification copies the properties back into a {@link HashMap}.
+	 * @return this instance
+	 */
+	public ConfigProperties compact()
+	{
+		if ((_map instanceof HashMap) && !_map.containsKey(null))
+		{
+			_map = new CompactPropertyMap(_map);
 		}
+		return this;
+	}
+	
+	private Map<String, String> mutableMap()
+	{
+		if (_map instanceof CompactPropertyMap)
+		{
+			_map = new HashMap<>(_map);
+		}
+		return _map;
+	}
+	
+	private static String trim(String value)
+	{
+		// String.trim() returns the same instance when there is nothing to trim
+		return value != null ? value.trim() : null;
 	}
 	
 	// ===================================================================================
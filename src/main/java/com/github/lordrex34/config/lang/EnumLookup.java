@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A precomputed lookup table of the constants of an enum class. The tables are built once per class, and cached in a {@link ClassValue}.<br>
+ * The constants are resolved by their names, either exactly or ignoring the case, from a range of a {@link CharSequence}, without creating substrings and without throwing exceptions.
+ * @author lord_rex
+ * @param <T> the type of the enum
+ */
+public final class EnumLookup<T extends Enum<T>>
+{
+	private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<EnumLookup<?>>()
+	{
+		@Override
+		@SuppressWarnings(
+		{
+			"unchecked",
+			"rawtypes"
+		})
+		protected EnumLookup<?> computeValue(Class<?> type)
+		{
+			return new EnumLookup(type);
+		}
+	};
+	
+	private final Class<T> _enumClass;
+	private final int _mask;
+	private final T[] _exact;
+	/** The constants by their case folded names. The constants whose names differ only in their case are left out, they can be resolved only exactly. */
+	private final T[] _ignoreCase;
+	
+	private EnumLookup(Class<T> enumClass)
+	{
+		final T[] constants = enumClass.getEnumConstants();
+		if (constants == null)
+		{
+			throw new IllegalArgumentException(enumClass + " is not an enum!");
+		}
+		
+		_enumClass = enumClass;
+		
+		int capacity = 2;
+		while (capacity < (constants.length * 2))
+		{
+			capacity <<= 1;
+		}
+		_mask = capacity - 1;
+		_exact = Arrays.copyOf(constants, capacity);
+		_ignoreCase = Arrays.copyOf(constants, capacity);
+		Arrays.fill(_exact, null);
+		Arrays.fill(_ignoreCase, null);
+		
+		final Map<String, T> foldedNames = new HashMap<>();
+		final Set<String> ambiguousNames = new HashSet<>();
+		for (T constant : constants)
+		{
+			insert(_exact, constant, false);
+			
+			final String foldedName = fold(constant.name());
+			if (foldedNames.putIfAbsent(foldedName, constant) != null)
+			{
+				ambiguousNames.add(foldedName);
+			}
+		}
+		
+		for (T constant : constants)
+		{
+			if (!ambiguousNames.contains(fold(constant.name())))
+			{
+				insert(_ignoreCase, constant, true);
+			}
+		}
+	}
+	
+	/**
+	 * Gets the lookup table of an enum class.
+	 * @param <T> the type of the enum
+	 * @param enumClass the enum class
+	 * @return the lookup table
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Enum<T>> EnumLookup<T> of(Class<T> enumClass)
+	{
+		return (EnumLookup<T>) LOOKUPS.get(enumClass);
+	}
+	
+	public Class<T> getEnumClass()
+	{
+		return _enumClass;
+	}
+	
+	/**
+	 * Resolves a constant by its name.
+	 * @param name the name of the constant
+	 * @param ignoreCase whether a name differing only in its case is accepted too, if it is not ambiguous
+	 * @return the constant, or {@code null} if there is no such constant
+	 */
+	public T get(CharSequence name, boolean ignoreCase)
+	{
+		return get(name, 0, name.length(), ignoreCase);
+	}
+	
+	/**
+	 * Resolves a constant by its name, which is a part of a character sequence. An exact match is preferred to the one ignoring the case.
+	 * @param value the character sequence
+	 * @param start the start index of the name, inclusive
+	 * @param end the end index of the name, exclusive
+	 * @param ignoreCase whether a name differing only in its case is accepted too, if it is not ambiguous
+	 * @return the constant, or {@code null} if there is no such constant
+	 */
+	public T get(CharSequence value, int start, int end, boolean ignoreCase)
+	{
+		final T constant = find(_exact, value, start, end, false);
+		if ((constant != null) || !ignoreCase)
+		{
+			return constant;
+		}
+		return find(_ignoreCase, value, start, end, true);
+	}
+	
+	private T find(T[] table, CharSequence value, int start, int end, boolean ignoreCase)
+	{
+		int index = hash(value, start, end, ignoreCase) & _mask;
+		T constant;
+		while ((constant = table[index]) != null)
+		{
+			if (matches(constant.name(), value, start, end, ignoreCase))
+			{
+				return constant;
+			}
+			index = (index + 1) & _mask;
+		}
+		return null;
+	}
+	
+	private void insert(T[] table, T constant, boolean ignoreCase)
+	{
+		final String name = constant.name();
+		int index = hash(name, 0, name.length(), ignoreCase) & _mask;
+		while (table[index] != null)
+		{
+			index = (index + 1) & _mask;
+		}
+		table[index] = constant;
+	}
+	
+	private static boolean matches(String name, CharSequence value, int start, int end, boolean ignoreCase)
+	{
+		if (name.length() != (end - start))
+		{
+			return false;
+		}
+		
+		for (int i = 0; i < name.length(); i++)
+		{
+			final char c = name.charAt(i);
+			final char other = value.charAt(start + i);
+			if ((c != other) && (!ignoreCase || (fold(c) != fold(other))))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static int hash(CharSequence value, int start, int end, boolean ignoreCase)
+	{
+		int hash = 0;
+		for (int i = start; i < end; i++)
+		{
+			final char c = value.charAt(i);
+			hash = (31 * hash) + (ignoreCase ? fold(c) : c);
+		}
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * Folds the case of a character the same way as {@link String#equalsIgnoreCase(String)} compares them.
+	 * @param c the character
+	 * @return the folded character
+	 */
+	private static char fold(char c)
+	{
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+	
+	private static String fold(String name)
+	{
+		final char[] chars = new char[name.length()];
+		for (int i = 0; i < chars.length; i++)
+		{
+			chars[i] = fold(name.charAt(i));
+		}
+		return new String(chars);
+	}
+}
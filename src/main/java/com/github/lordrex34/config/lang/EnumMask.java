@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of the constants of an enum with at most 64 constants, packed into the bits of a single {@code long} by their ordinals.<br>
+ * A membership check is a single word read, and the set is safe to share across threads. The constants are iterated in their declaration order.
+ * @author lord_rex
+ * @param <E> the type of the enum
+ */
+public final class EnumMask<E extends Enum<E>> extends AbstractSet<E> implements Serializable
+{
+	private static final long serialVersionUID = -3790414632151052384L;
+	
+	private final Class<E> _enumClass;
+	private final long _bits;
+	
+	private EnumMask(Class<E> enumClass, long bits)
+	{
+		_enumClass = enumClass;
+		_bits = bits;
+	}
+	
+	/**
+	 * Creates a mask of the specified constants.
+	 * @param <E> the type of the enum
+	 * @param enumClass the enum class
+	 * @param constants the constants
+	 * @return the mask
+	 * @throws IllegalArgumentException if the enum has more than 64 constants
+	 */
+	public static <E extends Enum<E>> EnumMask<E> of(Class<E> enumClass, Collection<? extends E> constants)
+	{
+		checkSize(enumClass);
+		
+		long bits = 0;
+		for (E constant : constants)
+		{
+			bits |= 1L << constant.ordinal();
+		}
+		return new EnumMask<>(enumClass, bits);
+	}
+	
+	/**
+	 * Creates a mask of all the constants of an enum.
+	 * @param <E> the type of the enum
+	 * @param enumClass the enum class
+	 * @return the mask
+	 * @throws IllegalArgumentException if the enum has more than 64 constants
+	 */
+	public static <E extends Enum<E>> EnumMask<E> allOf(Class<E> enumClass)
+	{
+		final int size = checkSize(enumClass);
+		return new EnumMask<>(enumClass, size == Long.SIZE ? -1L : ((1L << size) - 1));
+	}
+	
+	private static int checkSize(Class<?> enumClass)
+	{
+		final int size = enumClass.getEnumConstants().length;
+		if (size > Long.SIZE)
+		{
+			throw new IllegalArgumentException(enumClass + " has more than " + Long.SIZE + " constants, use an EnumSet instead!");
+		}
+		return size;
+	}
+	
+	public Class<E> getEnumClass()
+	{
+		return _enumClass;
+	}
+	
+	/**
+	 * Gets the packed constants.
+	 * @return the bits of the constants, by their ordinals
+	 */
+	public long getBits()
+	{
+		return _bits;
+	}
+	
+	/**
+	 * Checks whether the mask contains a constant.
+	 * @param constant the constant
+	 * @return {@code true} if the mask contains the constant, otherwise {@code false}
+	 */
+	public boolean contains(E constant)
+	{
+		return (constant != null) && ((_bits & (1L << constant.ordinal())) != 0);
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean contains(Object o)
+	{
+		return (o instanceof Enum) && (((Enum<?>) o).getDeclaringClass() == _enumClass) && contains((E) o);
+	}
+	
+	/**
+	 * Copies the constants of the mask.
+	 * @return a new {@link EnumSet} of the constants
+	 */
+	public EnumSet<E> toEnumSet()
+	{
+		final EnumSet<E> result = EnumSet.noneOf(_enumClass);
+		result.addAll(this);
+		return result;
+	}
+	
+	@Override
+	public Iterator<E> iterator()
+	{
+		final E[] constants = _enumClass.getEnumConstants();
+		return new Iterator<E>()
+		{
+			private long _remaining = _bits;
+			
+			@Override
+			public boolean hasNext()
+			{
+				return _remaining != 0;
+			}
+			
+			@Override
+			public E next()
+			{
+				if (_remaining == 0)
+				{
+					throw new NoSuchElementException();
+				}
+				
+				final int ordinal = Long.numberOfTrailingZeros(_remaining);
+				_remaining &= _remaining - 1;
+				return constants[ordinal];
+			}
+		};
+	}
+	
+	@Override
+	public int size()
+	{
+		return Long.bitCount(_bits);
+	}
+	
+	@Override
+	public boolean equals(Object o)
+	{
+		if (o instanceof EnumMask)
+		{
+			final EnumMask<?> other = (EnumMask<?>) o;
+			return (_enumClass == other._enumClass) && (_bits == other._bits);
+		}
+		return super.equals(o);
+	}
+}
@@ -22,6 +22,7 @@
 package com.github.lordrex34.config.lang;
 
 import java.lang.reflect.Array;
+import java.text.ParsePosition;
 
 /**
  * This class's purpose is eventually to parse fields.
@@ -97,70 +98,46 @@ public final class FieldParser
 	
 	public static byte getByte(String value)
 	{
-		if (value == null)
-		{
-			throw new FieldParserException(Byte.class);
-		}
-		
-		try
-		{
-			return Byte.decode(value);
-		}
-		catch (RuntimeException e)
-		{
-			throw new FieldParserException(Byte.class, value, e);
-		}
+		return (byte) getIntegral(Byte.class, value, Byte.MIN_VALUE, Byte.MAX_VALUE);
 	}
 	
 	public static short getShort(String value)
 	{
-		if (value == null)
-		{
-			throw new FieldParserException(Short.class);
-		}
-		
-		try
-		{
-			return Short.decode(value);
-		}
-		catch (RuntimeException e)
-		{
-			throw new FieldParserException(Short.class, value, e);
-		}
+		return (short) getIntegral(Short.class, value, Short.MIN_VALUE, Short.MAX_VALUE);
 	}
 	
 	public static int getInteger(String value)
 	{
-		if (value == null)
-		{
-			throw new FieldParserException(Integer.class);
-		}
-		
-		try
-		{
-			return Integer.decode(value);
-		}
-		catch (RuntimeException e)
-		{
-			throw new FieldParserException(Integer.class, value, e);
-		}
+		return (int) getIntegral(Integer.class, value, Integer.MIN_VALUE, Integer.MAX_VALUE);
 	}
 	
 	public static long getLong(String value)
+	{
+		return getIntegral(Long.class, value, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses an integral number the same way as {@link Long#decode(String)}, without creating intermediate objects. The {@code _} digit separators are not accepted, just like by {@link Long#decode(String)}.
+	 * @param type the type of the number, used in the error message
+	 * @param value the value
+	 * @param min the minimum accepted value
+	 * @param max the maximum accepted value
+	 * @return the parsed number
+	 */
+	private static long getIntegral(Class<?> type, String value, long min, long max)
 	{
 		if (value == null)
 		{
-			throw new FieldParserException(Long.class);
+			throw new FieldParserException(type);
 		}
 		
-		try
+		final ParsePosition position = new ParsePosition(0);
+		final long result = NumberParser.parseLong(value, 0, value.length(), min, max, NumberParser.RADIX_PREFIXES, position);
+		if (position.getErrorIndex() >= 0)
 		{
-			return Long.decode(value);
-		}
-		catch (RuntimeException e)
-		{
-			throw new FieldParserException(Long.class, value, e);
+			throw new FieldParserException(type, value);
 		}
+		return result;
 	}
 	
 	public static float getFloat(String value)
@@ -208,25 +185,36 @@ public final class FieldParser
 	}
 	
 	public static <T extends Enum<T>> T getEnum(Class<T> enumClass, String value)
+	{
+		return getEnum(enumClass, value, false);
+	}
+	
+	/**
+	 * Parses an enum constant by its name.
+	 * @param <T> the type of the enum
+	 * @param enumClass the enum class
+	 * @param value the name of the constant
+	 * @param ignoreCase whether a name differing only in its case is accepted too, if it is not ambiguous
+	 * @return the enum constant
+	 */
+	public static <T extends Enum<T>> T getEnum(Class<T> enumClass, String value, boolean ignoreCase)
 	{
 		if (value == null)
 		{
 			throw new FieldParserException(enumClass);
 		}
 		
-		try
+		final T constant = EnumLookup.of(enumClass).get(value, ignoreCase);
+		if (constant == null)
 		{
-			return Enum.valueOf(enumClass, value);
-		}
-		catch (RuntimeException e)
-		{
-			throw new FieldParserException(enumClass, value, e);
+			throw new FieldParserException(enumClass, value);
 		}
+		return constant;
 	}
 	
 	public static Object getArray(Class<?> componentClass, String value, String regex)
 	{
-		final String[] values = value.split(regex);
+		final String[] values = ValueSplitter.of(regex).split(value);
 		
 		final Object array = Array.newInstance(componentClass, values.length);
 		
@@ -257,6 +245,11 @@ public final class FieldParser
 			super(requiredType + " value required, but not specified!");
 		}
 		
+		public FieldParserException(Class<?> requiredType, String value)
+		{
+			super(requiredType + " value required, but found: '" + value + "'!");
+		}
+		
 		public FieldParserException(Class<?> requiredType, String value, RuntimeException cause)
 		{
 			super(requiredType + " value required, but found: '" + value + "'!", cause);
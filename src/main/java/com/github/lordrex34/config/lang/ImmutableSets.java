@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Creates immutable sets optimized for {@link Set#contains(Object)}. The created sets are read-only, so they are safe to share across threads.
+ * @author lord_rex
+ */
+public final class ImmutableSets
+{
+	/** The maximum size of the sets looked up by binary search, the larger ones are hashed. */
+	public static final int SORTED_ARRAY_MAX_SIZE = 16;
+	
+	private ImmutableSets()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Copies a collection into an immutable set:
+	 * <ul>
+	 * <li>enum constants are kept in an {@link EnumSet},</li>
+	 * <li>at most {@link #SORTED_ARRAY_MAX_SIZE} elements of the same naturally ordered class are kept in a sorted array, and looked up by binary search,</li>
+	 * <li>the other elements are kept in an open addressing hash table.</li>
+	 * </ul>
+	 * Only the classes whose natural order is consistent with {@link Object#equals(Object)} are treated as naturally ordered: strings, boxed primitives and enums. Their elements are iterated in that order.<br>
+	 * The other elements, for example {@link java.math.BigDecimal}, where {@code 1.0} and {@code 1.00} are equal by their natural order only, are distinct by {@link Object#equals(Object)} regardless of the size of the set, and iterated in their original order.
+	 * @param <E> the type of the elements
+	 * @param collection the collection to be copied
+	 * @return the immutable set
+	 */
+	@SuppressWarnings(
+	{
+		"unchecked",
+		"rawtypes"
+	})
+	public static <E> Set<E> copyOf(Collection<? extends E> collection)
+	{
+		if (collection.isEmpty())
+		{
+			return Collections.emptySet();
+		}
+		
+		if (collection instanceof EnumSet)
+		{
+			return Collections.unmodifiableSet(((EnumSet) collection).clone());
+		}
+		
+		final Object[] elements = collection.toArray();
+		if (Arrays.asList(elements).contains(null))
+		{
+			return Collections.unmodifiableSet(new LinkedHashSet<>(collection));
+		}
+		
+		final Class<?> elementClass = getCommonClass(elements);
+		if ((elementClass != null) && isNaturallyOrdered(elementClass))
+		{
+			final Object[] sortedElements = sortDistinct(elements);
+			if (sortedElements.length <= SORTED_ARRAY_MAX_SIZE)
+			{
+				return new SortedArraySet<>(sortedElements, elementClass);
+			}
+			return new OpenHashSet<>(sortedElements);
+		}
+		return new OpenHashSet<>(elements);
+	}
+	
+	/**
+	 * Gets the class of all the elements.
+	 * @param elements the elements
+	 * @return the class of all the elements, or {@code null} if they differ
+	 */
+	private static Class<?> getCommonClass(Object[] elements)
+	{
+		final Class<?> elementClass = elements[0].getClass();
+		for (Object element : elements)
+		{
+			if (element.getClass() != elementClass)
+			{
+				return null;
+			}
+		}
+		return elementClass;
+	}
+	
+	/**
+	 * Checks whether the natural order of a class is known to be consistent with {@link Object#equals(Object)}, so the sorted array and the hash table give the same results.
+	 * @param elementClass the class of the elements
+	 * @return {@code true} if the elements can be sorted, otherwise {@code false}
+	 */
+	private static boolean isNaturallyOrdered(Class<?> elementClass)
+	{
+		return (elementClass == String.class) || (elementClass == Integer.class) || (elementClass == Long.class) || (elementClass == Short.class) || (elementClass == Byte.class) || (elementClass == Character.class) || (elementClass == Boolean.class) || (elementClass == Double.class) || (elementClass == Float.class) || Enum.class.isAssignableFrom(elementClass);
+	}
+	
+	@SuppressWarnings(
+	{
+		"unchecked",
+		"rawtypes"
+	})
+	private static Object[] sortDistinct(Object[] elements)
+	{
+		final Object[] sortedElements = elements.clone();
+		Arrays.sort(sortedElements);
+		int size = 0;
+		for (Object element : sortedElements)
+		{
+			if ((size == 0) || (((Comparable) sortedElements[size - 1]).compareTo(element) != 0))
+			{
+				sortedElements[size++] = element;
+			}
+		}
+		return size == sortedElements.length ? sortedElements : Arrays.copyOf(sortedElements, size);
+	}
+}
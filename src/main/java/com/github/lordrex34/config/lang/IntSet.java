@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of {@code int}s, without boxing the values. The values are iterated in ascending order.<br>
+ * The smallest of three representations is chosen: a {@link BitSet} over the span of the values, a sorted array of the values, or a sorted array of the ranges of consecutive values. The arrays are looked up by binary search.<br>
+ * The memory of a set is never larger than what its ranges take, so a wide range like {@code 0-2000000000} stays small.<br>
+ * The sets are read-only, so they are safe to share across threads.
+ * @author lord_rex
+ */
+public abstract class IntSet extends AbstractSet<Integer> implements Serializable
+{
+	private static final long serialVersionUID = -6320416390875521742L;
+	
+	private static final IntSet EMPTY = new SortedIntSet(new int[0]);
+	
+	IntSet()
+	{
+		// the implementations are nested
+	}
+	
+	/**
+	 * Creates a set of the specified values.
+	 * @param values the values, in any order, possibly with duplicates
+	 * @return the set
+	 */
+	public static IntSet of(int... values)
+	{
+		final Builder builder = new Builder();
+		for (int value : values)
+		{
+			builder.add(value);
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * Checks whether the set contains a value, without boxing it.
+	 * @param value the value
+	 * @return {@code true} if the set contains the value, otherwise {@code false}
+	 */
+	public abstract boolean contains(int value);
+	
+	/**
+	 * Gets the values of the set.
+	 * @return a new array of the values, in ascending order
+	 */
+	public abstract int[] toIntArray();
+	
+	/**
+	 * Gets the ranges of consecutive values, without expanding them.
+	 * @return a new array of the inclusive start and end of each range, in ascending order
+	 */
+	public abstract int[] toRanges();
+	
+	@Override
+	public boolean contains(Object o)
+	{
+		return (o instanceof Integer) && contains(((Integer) o).intValue());
+	}
+	
+	/**
+	 * Collects values and ranges of values into an {@link IntSet}.
+	 */
+	public static final class Builder
+	{
+		/** The ranges, with their inclusive start in the high and their inclusive end in the low 32 bits. */
+		private long[] _ranges = new long[16];
+		private int _count;
+		
+		public Builder add(int value)
+		{
+			return addRange(value, value);
+		}
+		
+		/**
+		 * Adds a range of values.
+		 * @param from the first value of the range, inclusive
+		 * @param to the last value of the range, inclusive
+		 * @return this builder
+		 * @throws IllegalArgumentException if {@code to} is less than {@code from}
+		 */
+		public Builder addRange(int from, int to)
+		{
+			if (to < from)
+			{
+				throw new IllegalArgumentException("Invalid range: " + from + "-" + to + "!");
+			}
+			
+			if (_count == _ranges.length)
+			{
+				_ranges = Arrays.copyOf(_ranges, _count * 2);
+			}
+			_ranges[_count++] = ((long) from << 32) | (to & 0xFFFFFFFFL);
+			return this;
+		}
+		
+		/**
+		 * Builds the set of the added values. The builder can be reused afterwards.
+		 * @return the set
+		 * @throws IllegalArgumentException if the set would have more than {@link Integer#MAX_VALUE} values
+		 */
+		public IntSet build()
+		{
+			if (_count == 0)
+			{
+				return EMPTY;
+			}
+			
+			// sorting by the start of the ranges, then merging the overlapping and adjacent ones
+			Arrays.sort(_ranges, 0, _count);
+			int merged = 0;
+			long size = 0;
+			for (int i = 0; i < _count; i++)
+			{
+				final int from = start(_ranges[i]);
+				final int to = end(_ranges[i]);
+				if ((merged > 0) && (from <= (end(_ranges[merged - 1]) + 1L)))
+				{
+					final int previousTo = end(_ranges[merged - 1]);
+					if (to > previousTo)
+					{
+						size += (long) to - previousTo;
+						_ranges[merged - 1] = (_ranges[merged - 1] & 0xFFFFFFFF00000000L) | (to & 0xFFFFFFFFL);
+					}
+					continue;
+				}
+				
+				size += ((long) to - from) + 1;
+				_ranges[merged++] = _ranges[i];
+			}
+			
+			if (size > Integer.MAX_VALUE)
+			{
+				throw new IllegalArgumentException("Too many values: " + size + "!");
+			}
+			
+			// the sizes of the representations in bits
+			final int min = start(_ranges[0]);
+			final long span = ((long) end(_ranges[merged - 1]) - min) + 1;
+			final long arrayBits = size * Integer.SIZE;
+			final long rangeBits = merged * 2L * Integer.SIZE;
+			final IntSet result;
+			if ((span < Integer.MAX_VALUE) && (span <= arrayBits) && (span <= rangeBits))
+			{
+				final BitSet bits = new BitSet((int) span);
+				for (int i = 0; i < merged; i++)
+				{
+					bits.set(start(_ranges[i]) - min, (end(_ranges[i]) - min) + 1);
+				}
+				result = new BitmapIntSet(min, bits, (int) size);
+			}
+			else if (arrayBits <= rangeBits)
+			{
+				final int[] values = new int[(int) size];
+				int index = 0;
+				for (int i = 0; i < merged; i++)
+				{
+					for (long value = start(_ranges[i]); value <= end(_ranges[i]); value++)
+					{
+						values[index++] = (int) value;
+					}
+				}
+				result = new SortedIntSet(values);
+			}
+			else
+			{
+				final int[] starts = new int[merged];
+				final int[] ends = new int[merged];
+				for (int i = 0; i < merged; i++)
+				{
+					starts[i] = start(_ranges[i]);
+					ends[i] = end(_ranges[i]);
+				}
+				result = new RangeIntSet(starts, ends, (int) size);
+			}
+			
+			_count = 0;
+			return result;
+		}
+		
+		private static int start(long range)
+		{
+			return (int) (range >> 32);
+		}
+		
+		private static int end(long range)
+		{
+			return (int) range;
+		}
+	}
+	
+	/**
+	 * Dense values, stored as the bits of their offset from the minimum value.
+	 */
+	private static final class BitmapIntSet extends IntSet
+	{
+		private static final long serialVersionUID = 2901638478624915873L;
+		
+		private final int _offset;
+		private final BitSet _bits;
+		private final int _size;
+		
+		BitmapIntSet(int offset, BitSet bits, int size)
+		{
+			_offset = offset;
+			_bits = bits;
+			_size = size;
+		}
+		
+		@Override
+		public boolean contains(int value)
+		{
+			final long index = (long) value - _offset;
+			return (index >= 0) && (index < Integer.MAX_VALUE) && _bits.get((int) index);
+		}
+		
+		@Override
+		public int[] toIntArray()
+		{
+			final int[] values = new int[_size];
+			int index = 0;
+			for (int bit = _bits.nextSetBit(0); bit >= 0; bit = _bits.nextSetBit(bit + 1))
+			{
+				values[index++] = bit + _offset;
+			}
+			return values;
+		}
+		
+		@Override
+		public int[] toRanges()
+		{
+			final IntArrayBuilder ranges = new IntArrayBuilder();
+			int from = _bits.nextSetBit(0);
+			while (from >= 0)
+			{
+				final int to = _bits.nextClearBit(from);
+				ranges.add(from + _offset);
+				ranges.add((to - 1) + _offset);
+				from = _bits.nextSetBit(to);
+			}
+			return ranges.toArray();
+		}
+		
+		@Override
+		public Iterator<Integer> iterator()
+		{
+			return new Iterator<Integer>()
+			{
+				private int _next = _bits.nextSetBit(0);
+				
+				@Override
+				public boolean hasNext()
+				{
+					return _next >= 0;
+				}
+				
+				@Override
+				public Integer next()
+				{
+					if (_next < 0)
+					{
+						throw new NoSuchElementException();
+					}
+					
+					final int value = _next + _offset;
+					_next = _bits.nextSetBit(_next + 1);
+					return value;
+				}
+			};
+		}
+		
+		@Override
+		public int size()
+		{
+			return _size;
+		}
+	}
+	
+	/**
+	 * Sparse values, stored in a sorted array.
+	 */
+	private static final class SortedIntSet extends IntSet
+	{
+		private static final long serialVersionUID = -4472912306482218415L;
+		
+		private final int[] _values;
+		
+		SortedIntSet(int[] values)
+		{
+			_values = values;
+		}
+		
+		@Override
+		public boolean contains(int value)
+		{
+			return Arrays.binarySearch(_values, value) >= 0;
+		}
+		
+		@Override
+		public int[] toIntArray()
+		{
+			return _values.clone();
+		}
+		
+		@Override
+		public int[] toRanges()
+		{
+			final IntArrayBuilder ranges = new IntArrayBuilder();
+			for (int i = 0; i < _values.length;)
+			{
+				int last = i;
+				while (((last + 1) < _values.length) && (_values[last + 1] == (_values[last] + 1)))
+				{
+					last++;
+				}
+				ranges.add(_values[i]);
+				ranges.add(_values[last]);
+				i = last + 1;
+			}
+			return ranges.toArray();
+		}
+		
+		@Override
+		public Iterator<Integer> iterator()
+		{
+			return new Iterator<Integer>()
+			{
+				private int _index;
+				
+				@Override
+				public boolean hasNext()
+				{
+					return _index < _values.length;
+				}
+				
+				@Override
+				public Integer next()
+				{
+					if (_index >= _values.length)
+					{
+						throw new NoSuchElementException();
+					}
+					return _values[_index++];
+				}
+			};
+		}
+		
+		@Override
+		public int size()
+		{
+			return _values.length;
+		}
+	}
+	
+	/**
+	 * Wide ranges of values, stored as the sorted starts and ends of the ranges.
+	 */
+	private static final class RangeIntSet extends IntSet
+	{
+		private static final long serialVersionUID = 7361203928104759312L;
+		
+		private final int[] _starts;
+		private final int[] _ends;
+		private final int _size;
+		
+		RangeIntSet(int[] starts, int[] ends, int size)
+		{
+			_starts = starts;
+			_ends = ends;
+			_size = size;
+		}
+		
+		@Override
+		public boolean contains(int value)
+		{
+			final int index = Arrays.binarySearch(_starts, value);
+			if (index >= 0)
+			{
+				return true;
+			}
+			
+			// the range starting before the value
+			final int range = -index - 2;
+			return (range >= 0) && (value <= _ends[range]);
+		}
+		
+		@Override
+		public int[] toIntArray()
+		{
+			final int[] values = new int[_size];
+			int index = 0;
+			for (int i = 0; i < _starts.length; i++)
+			{
+				for (long value = _starts[i]; value <= _ends[i]; value++)
+				{
+					values[index++] = (int) value;
+				}
+			}
+			return values;
+		}
+		
+		@Override
+		public int[] toRanges()
+		{
+			final int[] ranges = new int[_starts.length * 2];
+			for (int i = 0; i < _starts.length; i++)
+			{
+				ranges[i * 2] = _starts[i];
+				ranges[(i * 2) + 1] = _ends[i];
+			}
+			return ranges;
+		}
+		
+		@Override
+		public Iterator<Integer> iterator()
+		{
+			return new Iterator<Integer>()
+			{
+				private int _range;
+				private long _next = _starts.length > 0 ? _starts[0] : 0;
+				
+				@Override
+				public boolean hasNext()
+				{
+					return _range < _starts.length;
+				}
+				
+				@Override
+				public Integer next()
+				{
+					if (_range >= _starts.length)
+					{
+						throw new NoSuchElementException();
+					}
+					
+					final int value = (int) _next;
+					if (_next < _ends[_range])
+					{
+						_next++;
+					}
+					else if (++_range < _starts.length)
+					{
+						_next = _starts[_range];
+					}
+					return value;
+				}
+			};
+		}
+		
+		@Override
+		public int size()
+		{
+			return _size;
+		}
+	}
+	
+	/**
+	 * A growing array of {@code int}s.
+	 */
+	private static final class IntArrayBuilder
+	{
+		private int[] _values = new int[8];
+		private int _count;
+		
+		void add(int value)
+		{
+			if (_count == _values.length)
+			{
+				_values = Arrays.copyOf(_values, _count * 2);
+			}
+			_values[_count++] = value;
+		}
+		
+		int[] toArray()
+		{
+			return Arrays.copyOf(_values, _count);
+		}
+	}
+}
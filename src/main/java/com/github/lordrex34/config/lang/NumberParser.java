@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.text.ParsePosition;
+
+/**
+ * A single pass parser of ASCII integral numbers.<br>
+ * The parser works on a range of a {@link CharSequence}, so no substrings are created, and it reports the errors through a {@link ParsePosition} instead of throwing exceptions.
+ * @author lord_rex
+ */
+public final class NumberParser
+{
+	/** Accepts the {@code 0x}, {@code 0X} and {@code #} hexadecimal and the {@code 0} octal prefixes, the same way as {@link Long#decode(String)}. */
+	public static final int RADIX_PREFIXES = 1;
+	/** Accepts {@code _} separators between the digits, the same way as in Java literals. The parsers of the configuration values don't use it, so they stay as strict as {@link Long#decode(String)} and {@link Long#parseLong(String)}. */
+	public static final int UNDERSCORES = 1 << 1;
+	
+	private NumberParser()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Parses a part of a character sequence as an integral number within the specified range.<br>
+	 * On success the index of the position is set to the end of the part. On failure the error index of the position is set to the index of the offending character (or to the end of the part, if a digit is missing there) and {@code 0} is returned.
+	 * @param value the character sequence
+	 * @param start the start index of the part, inclusive
+	 * @param end the end index of the part, exclusive
+	 * @param min the minimum accepted value, not greater than {@code 0}
+	 * @param max the maximum accepted value, not less than {@code 0}
+	 * @param flags the combination of {@link #RADIX_PREFIXES} and {@link #UNDERSCORES}, or {@code 0} for plain decimal numbers
+	 * @param position the position receiving the result
+	 * @return the parsed number, or {@code 0} on failure
+	 */
+	public static long parseLong(CharSequence value, int start, int end, long min, long max, int flags, ParsePosition position)
+	{
+		int index = start;
+		boolean negative = false;
+		if (index < end)
+		{
+			final char sign = value.charAt(index);
+			if ((sign == '-') || (sign == '+'))
+			{
+				negative = sign == '-';
+				index++;
+			}
+		}
+		
+		int radix = 10;
+		if (((flags & RADIX_PREFIXES) != 0) && (index < end))
+		{
+			final char first = value.charAt(index);
+			if (first == '#')
+			{
+				radix = 16;
+				index++;
+			}
+			else if ((first == '0') && ((index + 1) < end))
+			{
+				final char second = value.charAt(index + 1);
+				if ((second == 'x') || (second == 'X'))
+				{
+					radix = 16;
+					index += 2;
+				}
+				else
+				{
+					// the leading zero is kept as a digit, so "0_7" is accepted like in Java literals
+					radix = 8;
+				}
+			}
+		}
+		
+		if (index == end)
+		{
+			return fail(position, end);
+		}
+		
+		// accumulating negatively, so the magnitude of the minimum value fits as well
+		final long limit = negative ? min : -max;
+		final long multiplyLimit = limit / radix;
+		final boolean underscores = (flags & UNDERSCORES) != 0;
+		long result = 0;
+		boolean afterDigit = false;
+		for (; index < end; index++)
+		{
+			final char c = value.charAt(index);
+			if ((c == '_') && underscores && afterDigit && ((index + 1) < end))
+			{
+				final char next = value.charAt(index + 1);
+				if ((next == '_') || (digit(next, radix) >= 0))
+				{
+					continue;
+				}
+				return fail(position, index);
+			}
+			
+			final int digit = digit(c, radix);
+			if ((digit < 0) || (result < multiplyLimit))
+			{
+				return fail(position, index);
+			}
+			
+			result *= radix;
+			if (result < (limit + digit))
+			{
+				return fail(position, index);
+			}
+			result -= digit;
+			afterDigit = true;
+		}
+		
+		position.setIndex(end);
+		return negative ? result : -result;
+	}
+	
+	/**
+	 * Parses a part of a character sequence as an {@code int}, for the callers which want an exception on failure.
+	 * @param value the character sequence
+	 * @param start the start index of the part, inclusive
+	 * @param end the end index of the part, exclusive
+	 * @param flags the combination of {@link #RADIX_PREFIXES} and {@link #UNDERSCORES}, or {@code 0} for plain decimal numbers
+	 * @return the parsed number
+	 * @throws NumberFormatException if the part is not a valid {@code int}
+	 */
+	public static int parseInt(CharSequence value, int start, int end, int flags)
+	{
+		final ParsePosition position = new ParsePosition(start);
+		final long result = parseLong(value, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, flags, position);
+		if (position.getErrorIndex() >= 0)
+		{
+			throw new NumberFormatException("For input string: \"" + value.subSequence(start, end) + "\"");
+		}
+		return (int) result;
+	}
+	
+	private static int digit(char c, int radix)
+	{
+		final int digit;
+		if ((c >= '0') && (c <= '9'))
+		{
+			digit = c - '0';
+		}
+		else if ((c >= 'a') && (c <= 'z'))
+		{
+			digit = (c - 'a') + 10;
+		}
+		else if ((c >= 'A') && (c <= 'Z'))
+		{
+			digit = (c - 'A') + 10;
+		}
+		else
+		{
+			return -1;
+		}
+		return digit < radix ? digit : -1;
+	}
+	
+	private static long fail(ParsePosition position, int errorIndex)
+	{
+		position.setErrorIndex(errorIndex);
+		return 0;
+	}
+}
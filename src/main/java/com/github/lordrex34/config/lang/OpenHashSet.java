@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An immutable open addressing hash set. The elements are stored in a linear probing table, together with their hash codes, so the mismatching elements are rejected mostly without calling {@link Object#equals(Object)}.<br>
+ * The elements are iterated in the order they were given in.
+ * @author lord_rex
+ * @param <E> the type of the elements
+ */
+final class OpenHashSet<E> extends AbstractSet<E> implements Serializable
+{
+	private static final long serialVersionUID = 6128447310594213851L;
+	
+	/** The distinct elements, in their original order. */
+	private final Object[] _elements;
+	/** Linear probing, at most half of the slots are used. */
+	private final Object[] _table;
+	private final int[] _hashes;
+	
+	/**
+	 * Copies elements into a hash table. The duplicated elements are kept only once.
+	 * @param elements the elements, none of them may be {@code null}
+	 */
+	OpenHashSet(Object[] elements)
+	{
+		int capacity = 2;
+		while (capacity < (elements.length * 2))
+		{
+			capacity <<= 1;
+		}
+		
+		_table = new Object[capacity];
+		_hashes = new int[capacity];
+		int size = 0;
+		final Object[] distinctElements = new Object[elements.length];
+		for (Object element : elements)
+		{
+			final int hash = spread(element.hashCode());
+			final int slot = find(element, hash);
+			if (_table[slot] == null)
+			{
+				_table[slot] = element;
+				_hashes[slot] = hash;
+				distinctElements[size++] = element;
+			}
+		}
+		_elements = size == elements.length ? distinctElements : Arrays.copyOf(distinctElements, size);
+	}
+	
+	private static int spread(int hashCode)
+	{
+		return hashCode ^ (hashCode >>> 16);
+	}
+	
+	/**
+	 * Finds the slot of an element in the table.
+	 * @param element the element
+	 * @param hash the spread hash code of the element
+	 * @return the slot of the element, or the empty slot where it would be inserted
+	 */
+	private int find(Object element, int hash)
+	{
+		final int mask = _table.length - 1;
+		int slot = hash & mask;
+		Object candidate;
+		while ((candidate = _table[slot]) != null)
+		{
+			if ((candidate == element) || ((_hashes[slot] == hash) && candidate.equals(element)))
+			{
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+	
+	@Override
+	public boolean contains(Object o)
+	{
+		return (o != null) && (_table[find(o, spread(o.hashCode()))] != null);
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<E> iterator()
+	{
+		// the iterator of a fixed size list doesn't support removal
+		return (Iterator<E>) Arrays.asList(_elements).iterator();
+	}
+	
+	@Override
+	public int size()
+	{
+		return _elements.length;
+	}
+	
+	@Override
+	public Object[] toArray()
+	{
+		return _elements.clone();
+	}
+}
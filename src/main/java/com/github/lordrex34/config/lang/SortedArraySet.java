@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An immutable set of mutually comparable elements of the same class, stored in a sorted array and looked up by binary search.<br>
+ * It is meant for small sets, where a few comparisons are cheaper than hashing. The elements are iterated in their natural order, like in a {@link java.util.TreeSet}.
+ * @author lord_rex
+ * @param <E> the type of the elements
+ */
+final class SortedArraySet<E> extends AbstractSet<E> implements Serializable
+{
+	private static final long serialVersionUID = -2470584712981046732L;
+	
+	/** The distinct elements, in their natural order. */
+	private final Object[] _elements;
+	private final Class<?> _elementClass;
+	
+	/**
+	 * Creates a set of the sorted, distinct elements.
+	 * @param elements the elements, sorted and distinct by their natural order
+	 * @param elementClass the class of all the elements
+	 */
+	SortedArraySet(Object[] elements, Class<?> elementClass)
+	{
+		_elements = elements;
+		_elementClass = elementClass;
+	}
+	
+	@Override
+	public boolean contains(Object o)
+	{
+		// any other object would either be missing, or fail to compare
+		if ((o == null) || (o.getClass() != _elementClass))
+		{
+			return false;
+		}
+		return Arrays.binarySearch(_elements, o) >= 0;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<E> iterator()
+	{
+		// the iterator of a fixed size list doesn't support removal
+		return (Iterator<E>) Arrays.asList(_elements).iterator();
+	}
+	
+	@Override
+	public int size()
+	{
+		return _elements.length;
+	}
+	
+	@Override
+	public Object[] toArray()
+	{
+		return _elements.clone();
+	}
+}
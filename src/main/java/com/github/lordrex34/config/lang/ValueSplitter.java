@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.lang;
+
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Splits property values by a separator. The instances are cached per separator.<br>
+ * A separator without regular expression meta characters is matched literally, without {@link Pattern}. The other ones are compiled once, and give the same result as {@link String#split(String)}.
+ * @author lord_rex
+ */
+public final class ValueSplitter
+{
+	private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+	
+	private static final Map<String, ValueSplitter> SPLITTERS = new ConcurrentHashMap<>();
+	private static final Map<String, ValueSplitter> LITERAL_SPLITTERS = new ConcurrentHashMap<>();
+	
+	/** The literal separator, or {@code null} if the separator is a regular expression. */
+	private final String _literal;
+	
+	/** The compiled regular expression, or {@code null} if the separator is literal. */
+	private final Pattern _pattern;
+	
+	private ValueSplitter(String literal, Pattern pattern)
+	{
+		_literal = literal;
+		_pattern = pattern;
+	}
+	
+	/**
+	 * Gets the splitter of a separator, which is treated the same way as by {@link String#split(String)}.
+	 * @param separator the separator, a regular expression
+	 * @return the splitter
+	 */
+	public static ValueSplitter of(String separator)
+	{
+		return SPLITTERS.computeIfAbsent(separator, k -> isLiteral(k) ? new ValueSplitter(k, null) : new ValueSplitter(null, Pattern.compile(k)));
+	}
+	
+	/**
+	 * Gets the splitter of a literal separator, even if it contains regular expression meta characters.
+	 * @param separator the separator, matched literally
+	 * @return the splitter
+	 */
+	public static ValueSplitter literal(String separator)
+	{
+		return LITERAL_SPLITTERS.computeIfAbsent(separator, k -> k.isEmpty() ? new ValueSplitter(null, Pattern.compile(k, Pattern.LITERAL)) : new ValueSplitter(k, null));
+	}
+	
+	private static boolean isLiteral(String separator)
+	{
+		if (separator.isEmpty())
+		{
+			return false;
+		}
+		
+		for (int i = 0; i < separator.length(); i++)
+		{
+			if (REGEX_META_CHARACTERS.indexOf(separator.charAt(i)) >= 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Splits a value. Like {@link String#split(String)}, the trailing empty elements are removed.
+	 * @param value the value
+	 * @return the elements of the value
+	 */
+	public String[] split(String value)
+	{
+		if (_pattern != null)
+		{
+			return _pattern.split(value);
+		}
+		
+		final int count = countElements(value);
+		if (count < 0)
+		{
+			return new String[]
+			{
+				value
+			};
+		}
+		
+		final String[] result = new String[count];
+		int start = 0;
+		for (int i = 0; i < count; i++)
+		{
+			final int end = elementEnd(value, start);
+			result[i] = value.substring(start, end);
+			start = end + _literal.length();
+		}
+		return result;
+	}
+	
+	/**
+	 * Splits a value into {@code int}s. The elements are trimmed and decoded the same way as by {@link Integer#decode(String)}, without creating the substrings.
+	 * @param value the value
+	 * @return the decoded elements of the value
+	 * @throws NumberFormatException if an element is not a valid number
+	 */
+	public int[] splitToInts(String value)
+	{
+		if (_pattern != null)
+		{
+			final String[] elements = _pattern.split(value);
+			final int[] result = new int[elements.length];
+			for (int i = 0; i < elements.length; i++)
+			{
+				result[i] = decodeInt(elements[i], 0, elements[i].length());
+			}
+			return result;
+		}
+		
+		final int count = countElements(value);
+		if (count < 0)
+		{
+			return new int[]
+			{
+				decodeInt(value, 0, value.length())
+			};
+		}
+		
+		final int[] result = new int[count];
+		int start = 0;
+		for (int i = 0; i < count; i++)
+		{
+			final int end = elementEnd(value, start);
+			result[i] = decodeInt(value, start, end);
+			start = end + _literal.length();
+		}
+		return result;
+	}
+	
+	/**
+	 * Splits a value into enum constants, resolving the elements without creating the substrings.
+	 * @param <T> the type of the enum
+	 * @param value the value
+	 * @param lookup the lookup table of the enum
+	 * @param ignoreCase whether the elements are matched ignoring their case
+	 * @return the resolved elements of the value, or {@code null} if an element is not a constant of the enum
+	 */
+	public <T extends Enum<T>> T[] splitToEnums(String value, EnumLookup<T> lookup, boolean ignoreCase)
+	{
+		if (_pattern != null)
+		{
+			final String[] elements = _pattern.split(value);
+			final T[] result = newArray(lookup, elements.length);
+			for (int i = 0; i < elements.length; i++)
+			{
+				if ((result[i] = lookup.get(elements[i], ignoreCase)) == null)
+				{
+					return null;
+				}
+			}
+			return result;
+		}
+		
+		int count = countElements(value);
+		final boolean separated = count >= 0;
+		if (!separated)
+		{
+			count = 1;
+		}
+		
+		final T[] result = newArray(lookup, count);
+		int start = 0;
+		for (int i = 0; i < count; i++)
+		{
+			final int end = separated ? elementEnd(value, start) : value.length();
+			if ((result[i] = lookup.get(value, start, end, ignoreCase)) == null)
+			{
+				return null;
+			}
+			start = end + (separated ? _literal.length() : 0);
+		}
+		return result;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <T extends Enum<T>> T[] newArray(EnumLookup<T> lookup, int length)
+	{
+		return (T[]) Array.newInstance(lookup.getEnumClass(), length);
+	}
+	
+	/**
+	 * Counts the elements of a value, without the trailing empty ones.
+	 * @param value the value
+	 * @return the number of the elements, or {@code -1} if the value doesn't contain the separator
+	 */
+	private int countElements(String value)
+	{
+		int elements = 0;
+		int nonEmptyElements = 0;
+		int start = 0;
+		while (true)
+		{
+			final int index = value.indexOf(_literal, start);
+			final int end = index < 0 ? value.length() : index;
+			elements++;
+			if (end > start)
+			{
+				nonEmptyElements = elements;
+			}
+			
+			if (index < 0)
+			{
+				return elements == 1 ? -1 : nonEmptyElements;
+			}
+			start = index + _literal.length();
+		}
+	}
+	
+	private int elementEnd(String value, int start)
+	{
+		final int index = value.indexOf(_literal, start);
+		return index < 0 ? value.length() : index;
+	}
+	
+	/**
+	 * Decodes an {@code int} from a part of a string, the same way as {@link Integer#decode(String)} decodes the trimmed part.
+	 * @param value the string
+	 * @param start the start index of the part, inclusive
+	 * @param end the end index of the part, exclusive
+	 * @return the decoded number
+	 * @throws NumberFormatException if the part is not a valid number
+	 */
+	static int decodeInt(String value, int start, int end)
+	{
+		int index = start;
+		int limit = end;
+		while ((index < limit) && (value.charAt(index) <= ' '))
+		{
+			index++;
+		}
+		while ((limit > index) && (value.charAt(limit - 1) <= ' '))
+		{
+			limit--;
+		}
+		
+		if (index == limit)
+		{
+			throw new NumberFormatException("Zero length string");
+		}
+		
+		return NumberParser.parseInt(value, index, limit, NumberParser.RADIX_PREFIXES);
+	}
+}
@@ -22,24 +22,44 @@
 package com.github.lordrex34.config.model;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.lordrex34.config.annotation.ConfigClass;
 import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.binder.ConfigBinders;
+import com.github.lordrex34.config.binder.IConfigBinder;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
 import com.github.lordrex34.config.component.ConfigComponents;
 import com.github.lordrex34.config.context.ConfigClassLoadingContext;
 import com.github.lordrex34.config.context.ConfigFieldLoadingContext;
 import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.supplier.DefaultConfigSupplier;
+import com.github.lordrex34.config.util.ConfigFileFormat;
+import com.github.lordrex34.config.util.ConfigSnapshot;
+import com.github.lordrex34.config.util.FileUtil;
 
 /**
  * @author NB4L1 (original concept)
@@ -55,17 +75,38 @@ public final class ConfigClassInfo
 	/** The configuration class annotation. */
 	private final ConfigClass _configClass;
 	
+	/** The generated binder of the class, or {@code null} if reflection is used. */
+	private final IConfigBinder _binder;
+	
+	/** The component registry used when the defaults are generated. */
+	private final ConfigComponentRegistry _components;
+	
 	/** A list of the {@link ConfigFieldInfo} classes contained by this info container class. */
 	private final List<ConfigFieldInfo> _fieldInfoClasses = new ArrayList<>();
 	
+	/** The latest background generation of the properties file. */
+	private CompletableFuture<Void> _backgroundGeneration;
+	
 	/**
 	 * Constructs a new info container class.
 	 * @param clazz the configuration class itself
 	 */
 	public ConfigClassInfo(Class<?> clazz)
+	{
+		this(clazz, ConfigComponents.getRegistry());
+	}
+	
+	/**
+	 * Constructs a new info container class.
+	 * @param clazz the configuration class itself
+	 * @param components the component registry used when the defaults are generated
+	 */
+	public ConfigClassInfo(Class<?> clazz, ConfigComponentRegistry components)
 	{
 		_clazz = clazz;
+		_components = Objects.requireNonNull(components, "Components is null!");
 		_configClass = Objects.requireNonNull(_clazz.getDeclaredAnnotation(ConfigClass.class), () -> "Class " + _clazz + " doesn't have @ConfigClass annotation!");
+		_binder = ConfigBinders.find(_clazz);
 		
 		for (Field field : _clazz.getDeclaredFields())
 		{
@@ -75,10 +116,55 @@ public final class ConfigClassInfo
 				continue;
 			}
 			
-			_fieldInfoClasses.add(new ConfigFieldInfo(_clazz, field));
+			_fieldInfoClasses.add(new ConfigFieldInfo(_clazz, field, _binder, _components));
 		}
 	}
 	
+	/**
+	 * Gets the configuration class itself.
+	 * @return the configuration class
+	 */
+	public Class<?> getConfigClass()
+	{
+		return _clazz;
+	}
+	
+	/**
+	 * Gets the generated binder of the class.
+	 * @return the binder, or {@code null} if reflection is used
+	 */
+	public IConfigBinder getBinder()
+	{
+		return _binder;
+	}
+	
+	/**
+	 * Gets the configuration classes that must be loaded before this class.
+	 * @return the dependencies
+	 */
+	public Class<?>[] getDependencies()
+	{
+		return _configClass.dependsOn();
+	}
+	
+	/**
+	 * Gets the load priority of this class.
+	 * @return the load priority
+	 */
+	public int getPriority()
+	{
+		return _configClass.priority();
+	}
+	
+	/**
+	 * Checks whether this class is loaded on first use.
+	 * @return {@code true} if the class is lazy, otherwise {@code false}
+	 */
+	public boolean isLazy()
+	{
+		return _configClass.lazy();
+	}
+	
 	/**
 	 * Gets all registered field info classes inside this class.
 	 * @return the fieldInfoClasses
@@ -88,6 +174,15 @@ public final class ConfigClassInfo
 		return _fieldInfoClasses;
 	}
 	
+	/**
+	 * Gets the path of the properties file of the configuration class.
+	 * @return the path of the properties file
+	 */
+	public Path getConfigPath()
+	{
+		return Paths.get("", _configClass.pathNames()).resolve(_configClass.fileName() + _configClass.fileExtension());
+	}
+	
 	/**
 	 * Loads the configuration class that is being managed by this information container.
 	 * @param classLoadingContext the context of the actual loading
@@ -98,29 +193,144 @@ public final class ConfigClassInfo
 	 */
 	public void load(ConfigClassLoadingContext classLoadingContext) throws IOException, IllegalArgumentException, IllegalAccessException, InstantiationException
 	{
-		final Path configPath = Paths.get("", _configClass.pathNames()).resolve(_configClass.fileName() + _configClass.fileExtension());
+		load(classLoadingContext, readProperties(classLoadingContext));
+	}
+	
+	/**
+	 * Reads the properties file of the configuration class. This is the I/O bound part of the loading.<br>
+	 * If the file doesn't exist, it is generated first. When the context has a generation executor, the defaults are returned from memory instead, and the file is generated in the background.<br>
+	 * When the context has a snapshot, an unchanged file is restored from the snapshot instead of being parsed.
+	 * @param classLoadingContext the context of the actual loading
+	 * @return the properties read from the file
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	public ConfigProperties readProperties(ConfigClassLoadingContext classLoadingContext) throws IOException, IllegalAccessException, InstantiationException
+	{
+		final Path configPath = getConfigPath();
 		if (Files.notExists(configPath))
 		{
+			final Executor generationExecutor = classLoadingContext.getGenerationExecutor();
+			if (generationExecutor != null)
+			{
+				LOGGER.warn("Config File {} doesn't exist! Using the defaults, and generating it in the background ...", configPath);
+				
+				final CompletableFuture<Void> generation = generateInBackground(generationExecutor);
+				final List<CompletableFuture<Void>> generations = classLoadingContext.getGenerations();
+				if (generations != null)
+				{
+					generations.add(generation);
+				}
+				return getDefaultProperties();
+			}
+			
 			LOGGER.warn("Config File {} doesn't exist! Generating ...", configPath);
 			
 			generate();
 		}
 		
+		final ConfigSnapshot snapshot = classLoadingContext.getSnapshot();
+		return snapshot != null ? snapshot.load(configPath) : new ConfigProperties(configPath);
+	}
+	
+	/**
+	 * Gets the properties the generated file would contain, without rendering the comments and without any I/O.
+	 * @return the default properties
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	public ConfigProperties getDefaultProperties() throws IOException, IllegalAccessException, InstantiationException
+	{
+		final StringBuilder out = new StringBuilder();
+		for (ConfigFieldInfo configFieldInfo : _fieldInfoClasses)
+		{
+			if (!configFieldInfo.getConfigField().onlyComment())
+			{
+				out.append(configFieldInfo.getConfigField().name()).append(" = ").append(configFieldInfo.getDefaultValue()).append(ConfigFileFormat.LINE_SEPARATOR);
+			}
+		}
+		
+		// parsed the same way as the generated file, so escapes and line continuations are handled identically
+		final Properties properties = new Properties();
+		properties.load(new StringReader(out.toString()));
+		return new ConfigProperties(properties);
+	}
+	
+	/**
+	 * Generates the properties file on the given executor. A generation that is still in progress is reused.
+	 * @param executor the executor that writes the file
+	 * @return the future of the generation
+	 */
+	public synchronized CompletableFuture<Void> generateInBackground(Executor executor)
+	{
+		final CompletableFuture<Void> previous = _backgroundGeneration;
+		if ((previous != null) && !previous.isDone())
+		{
+			return previous;
+		}
+		
+		final CompletableFuture<Void> generation = CompletableFuture.runAsync(() ->
+		{
+			try
+			{
+				generate();
+			}
+			catch (IOException | IllegalAccessException | InstantiationException e)
+			{
+				throw new CompletionException(e);
+			}
+		}, executor);
+		generation.whenComplete((v, e) ->
+		{
+			if (e != null)
+			{
+				LOGGER.warn("Failed to generate '{}'!", getConfigPath(), e);
+			}
+		});
+		_backgroundGeneration = generation;
+		return generation;
+	}
+	
+	/**
+	 * Loads the configuration class from the already read properties. This is the CPU bound part of the loading.
+	 * @param classLoadingContext the context of the actual loading
+	 * @param properties the properties read by {@link #readProperties()}
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 * @throws IllegalArgumentException
+	 */
+	public void load(ConfigClassLoadingContext classLoadingContext, ConfigProperties properties) throws IllegalArgumentException, IllegalAccessException, InstantiationException
+	{
+		final Path configPath = getConfigPath();
 		final ConfigProperties overriddenProperties = classLoadingContext.getOverriddenProperties();
 		final Boolean isReloading = classLoadingContext.isReloading();
+		final ConfigComponentRegistry components = classLoadingContext.getComponents();
 		Objects.requireNonNull(overriddenProperties, "Overridden properties is null!");
 		Objects.requireNonNull(isReloading, "isReloading boolean is null in the loading context!");
+		Objects.requireNonNull(components, "Components is null in the loading context!");
 		
 		final ConfigFieldLoadingContext fieldLoadingContext = new ConfigFieldLoadingContext();
 		fieldLoadingContext.setConfigPath(configPath);
-		fieldLoadingContext.setProperties(ConfigProperties.of(new ConfigProperties(configPath), overriddenProperties));
+		final ConfigProperties mergedProperties = ConfigProperties.of(properties, overriddenProperties);
+		mergedProperties.setLoggingPrefix(configPath.toString());
+		mergedProperties.setDiagnostics(classLoadingContext.getDiagnostics());
+		fieldLoadingContext.setProperties(mergedProperties);
 		fieldLoadingContext.setReloading(isReloading);
+		fieldLoadingContext.setChanges(classLoadingContext.getChanges());
+		fieldLoadingContext.setComponents(components);
+		fieldLoadingContext.setPropertyRegistry(classLoadingContext.getPropertyRegistry());
+		fieldLoadingContext.setDiagnostics(classLoadingContext.getDiagnostics());
 		for (ConfigFieldInfo configFieldInfo : _fieldInfoClasses)
 		{
 			configFieldInfo.load(fieldLoadingContext);
 		}
 		
-		ConfigComponents.get(_configClass.postLoadHook()).load();
+		if ((_binder == null) || !_binder.postLoad(components))
+		{
+			components.get(_configClass.postLoadHook()).load();
+		}
 		
 		LOGGER.info("loaded '{}'", configPath);
 	}
@@ -131,22 +341,25 @@ public final class ConfigClassInfo
 	 */
 	public void print(StringBuilder out) throws InstantiationException, IllegalAccessException
 	{
-		// Header.
-		out.append("################################################################################\r\n");
-		out.append("## ").append(_configClass.fileName().replace("_", " ")).append(" Settings").append(System.lineSeparator());
-		out.append("################################################################################\r\n");
-		
-		out.append(System.lineSeparator()); // separator
-		
-		// File comment if exists.
-		if ((_configClass.comment() != null) && (_configClass.comment().length > 0))
+		try
 		{
-			for (String line : _configClass.comment())
-			{
-				out.append("# ").append(line).append(System.lineSeparator());
-			}
-			out.append(System.lineSeparator());
+			print((Appendable) out);
 		}
+		catch (IOException e)
+		{
+			// a StringBuilder never throws it
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Prints the necessary class information into an {@link Appendable}, for example directly into the {@link java.io.Writer} of the generated file.
+	 * @param out the {@link Appendable} that receives the output
+	 * @throws IOException
+	 */
+	public void print(Appendable out) throws IOException, InstantiationException, IllegalAccessException
+	{
+		ConfigFileFormat.printHeader(out, _configClass);
 		
 		for (ConfigFieldInfo configFieldInfo : _fieldInfoClasses)
 		{
@@ -160,25 +373,182 @@ public final class ConfigClassInfo
 	 */
 	public void generate() throws IOException, IllegalAccessException, InstantiationException
 	{
-		final StringBuilder out = new StringBuilder();
-		
-		print(out);
-		
-		final Path configPath = Paths.get("", _configClass.pathNames()).resolve(_configClass.fileName() + _configClass.fileExtension());
+		final Path configPath = getConfigPath();
 		final Path configPathParent = configPath.getParent();
 		if (configPathParent != null)
 		{
 			Files.createDirectories(configPathParent);
 		}
 		
-		try (BufferedWriter bw = Files.newBufferedWriter(configPath))
+		// written at compile time by ConfigDefaultsProcessor, no need to render it
+		final URL packagedDefaults = hasOverriddenDefaults() ? null : getPackagedDefaults();
+		if (packagedDefaults != null)
 		{
-			bw.append(out.toString());
+			FileUtil.writeAtomically(configPath, readPackagedDefaults(packagedDefaults));
+			
+			LOGGER.info("Generated: '{}' (packaged defaults)", configPath);
+			return;
 		}
 		
+		// streamed into a temporary file without building it in memory first, the file is replaced only if the whole content is written
+		FileUtil.writeAtomically(configPath, out ->
+		{
+			final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			print(writer);
+			writer.flush();
+		});
+		
 		LOGGER.info("Generated: '{}'", configPath);
 	}
 	
+	/**
+	 * Generates the properties file only if its content differs from the existing file. An unchanged file is not touched, so it keeps its modification time.<br>
+	 * The file is replaced atomically through a temporary file, so the readers of the file never see a partially written content.
+	 * @return {@code true} if the file has been written, {@code false} if it was up to date
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	public boolean generateIfChanged() throws IOException, IllegalAccessException, InstantiationException
+	{
+		final Path configPath = getConfigPath();
+		final byte[] content = render();
+		if (FileUtil.hasContent(configPath, content))
+		{
+			return false;
+		}
+		
+		FileUtil.writeAtomically(configPath, content);
+		LOGGER.info("Generated: '{}'", configPath);
+		return true;
+	}
+	
+	/**
+	 * Appends the properties missing from the existing file, with their comments, to the end of the file. The existing content is kept byte for byte.<br>
+	 * The existing file is read once, and only the missing properties are rendered and written. If the file doesn't exist, it is generated.
+	 * @return the number of the appended properties
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	public int mergeMissing() throws IOException, IllegalAccessException, InstantiationException
+	{
+		final Path configPath = getConfigPath();
+		if (Files.notExists(configPath))
+		{
+			generate();
+			return (int) _fieldInfoClasses.stream().filter(configFieldInfo -> !configFieldInfo.getConfigField().onlyComment()).count();
+		}
+		
+		final byte[] content = Files.readAllBytes(configPath);
+		final Properties properties = new Properties();
+		// the files are generated in UTF-8
+		properties.load(new StringReader(new String(content, StandardCharsets.UTF_8)));
+		
+		final List<ConfigFieldInfo> missingFields = new ArrayList<>();
+		for (ConfigFieldInfo configFieldInfo : _fieldInfoClasses)
+		{
+			if (!configFieldInfo.getConfigField().onlyComment() && !properties.containsKey(configFieldInfo.getConfigField().name()))
+			{
+				missingFields.add(configFieldInfo);
+			}
+		}
+		
+		if (missingFields.isEmpty())
+		{
+			return 0;
+		}
+		
+		try (BufferedWriter bw = Files.newBufferedWriter(configPath, StandardOpenOption.APPEND))
+		{
+			// the last line of the file may not be terminated
+			if ((content.length > 0) && (content[content.length - 1] != '\n') && (content[content.length - 1] != '\r'))
+			{
+				bw.append(ConfigFileFormat.LINE_SEPARATOR);
+			}
+			
+			for (ConfigFieldInfo configFieldInfo : missingFields)
+			{
+				configFieldInfo.printProperty(bw);
+			}
+		}
+		
+		LOGGER.info("Merged {} missing propert(ies) into '{}'.", missingFields.size(), configPath);
+		return missingFields.size();
+	}
+	
+	/**
+	 * Renders the properties file into memory, the same way as {@link #generate()} writes it.
+	 * @return the content of the properties file
+	 * @throws IOException
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	private byte[] render() throws IOException, IllegalAccessException, InstantiationException
+	{
+		final URL packagedDefaults = hasOverriddenDefaults() ? null : getPackagedDefaults();
+		if (packagedDefaults != null)
+		{
+			return readPackagedDefaults(packagedDefaults);
+		}
+		
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			print(writer);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * Gets the default properties file written by the annotation processor at compile time.
+	 * @return the packaged default properties file, or {@code null} if it doesn't exist
+	 */
+	public URL getPackagedDefaults()
+	{
+		final ClassLoader classLoader = _clazz.getClassLoader();
+		final String resourceName = ConfigFileFormat.getDefaultsResourceName(_clazz.getName(), _configClass);
+		return classLoader != null ? classLoader.getResource(resourceName) : ClassLoader.getSystemResource(resourceName);
+	}
+	
+	/**
+	 * Checks whether a default value is overridden by an environment variable or a system property, see {@link DefaultConfigSupplier#getOverride(Class, Field)}.<br>
+	 * The packaged defaults contain the declared values only, so such a class is rendered at runtime, like before the packaged defaults.
+	 * @return {@code true} if any field of the class is overridden, otherwise {@code false}
+	 */
+	private boolean hasOverriddenDefaults()
+	{
+		for (ConfigFieldInfo fieldInfo : _fieldInfoClasses)
+		{
+			if (DefaultConfigSupplier.getOverride(_clazz, fieldInfo.getField()) != null)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Reads the packaged default properties file, with its line separators translated to the ones of the runtime generation.
+	 * @param packagedDefaults the packaged default properties file
+	 * @return the content of the properties file
+	 * @throws IOException
+	 */
+	private static byte[] readPackagedDefaults(URL packagedDefaults) throws IOException
+	{
+		final byte[] content;
+		try (InputStream is = packagedDefaults.openStream())
+		{
+			content = FileUtil.readAllBytes(is);
+		}
+		
+		if (ConfigFileFormat.PACKAGED_LINE_SEPARATOR.equals(ConfigFileFormat.LINE_SEPARATOR))
+		{
+			return content;
+		}
+		return new String(content, StandardCharsets.UTF_8).replace(ConfigFileFormat.PACKAGED_LINE_SEPARATOR, ConfigFileFormat.LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+	}
+	
 	@Override
 	public int hashCode()
 	{
@@ -21,12 +21,16 @@
  */
 package com.github.lordrex34.config.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -35,10 +39,16 @@ import org.slf4j.LoggerFactory;
 import com.github.lordrex34.config.annotation.ConfigField;
 import com.github.lordrex34.config.annotation.ConfigGroupBeginning;
 import com.github.lordrex34.config.annotation.ConfigGroupEnding;
+import com.github.lordrex34.config.binder.IConfigBinder;
+import com.github.lordrex34.config.changelisteners.ConfigChangeEvent;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
 import com.github.lordrex34.config.component.ConfigComponents;
 import com.github.lordrex34.config.context.ConfigFieldLoadingContext;
+import com.github.lordrex34.config.converter.IConfigConverter;
+import com.github.lordrex34.config.converter.MainConfigConverter;
 import com.github.lordrex34.config.lang.ConfigProperties;
 import com.github.lordrex34.config.supplier.IConfigValueSupplier;
+import com.github.lordrex34.config.util.ConfigFileFormat;
 import com.github.lordrex34.config.util.ConfigPropertyRegistry;
 
 /**
@@ -74,18 +84,58 @@ public final class ConfigFieldInfo
 	 */
 	private final ConfigGroupEnding _endingGroup;
 	
+	/**
+	 * The generated binder, or {@code null} if the field is accessed through reflection.
+	 */
+	private final IConfigBinder _binder;
+	
+	/**
+	 * The component registry used when the defaults are generated.
+	 */
+	private final ConfigComponentRegistry _components;
+	
+	/**
+	 * The conversion of the last load, replaced as a whole, so concurrent loads never see a value paired with another raw value.
+	 */
+	private volatile LastConversion _lastConversion;
+	
 	/**
 	 * Constructs a new information container class for the field.
 	 * @param clazz the class that is being scanned
 	 * @param field the field that contains {@link ConfigField} annotation
 	 */
 	public ConfigFieldInfo(Class<?> clazz, Field field)
+	{
+		this(clazz, field, null);
+	}
+	
+	/**
+	 * Constructs a new information container class for the field.
+	 * @param clazz the class that is being scanned
+	 * @param field the field that contains {@link ConfigField} annotation
+	 * @param binder the generated binder of the class, or {@code null}
+	 */
+	public ConfigFieldInfo(Class<?> clazz, Field field, IConfigBinder binder)
+	{
+		this(clazz, field, binder, ConfigComponents.getRegistry());
+	}
+	
+	/**
+	 * Constructs a new information container class for the field.
+	 * @param clazz the class that is being scanned
+	 * @param field the field that contains {@link ConfigField} annotation
+	 * @param binder the generated binder of the class, or {@code null}
+	 * @param components the component registry used when the defaults are generated
+	 */
+	public ConfigFieldInfo(Class<?> clazz, Field field, IConfigBinder binder, ConfigComponentRegistry components)
 	{
 		_clazz = clazz;
 		_field = field;
 		_configField = _field.getDeclaredAnnotation(ConfigField.class);
 		_beginningGroup = _field.getDeclaredAnnotation(ConfigGroupBeginning.class);
 		_endingGroup = _field.getDeclaredAnnotation(ConfigGroupEnding.class);
+		_binder = (binder != null) && binder.isBound(_field.getName()) ? binder : null;
+		_components = Objects.requireNonNull(components, "Components is null!");
 	}
 	
 	/**
@@ -97,6 +147,44 @@ public final class ConfigFieldInfo
 		return _field;
 	}
 	
+	/**
+	 * Gets the class that is being scanned.
+	 * @return the class
+	 */
+	public Class<?> getDeclaringClass()
+	{
+		return _clazz;
+	}
+	
+	/**
+	 * Gets the converted value of the last load if it was converted from the same raw value by the same converter, otherwise converts the raw value and remembers the result for the next reload.
+	 * @param rawValue the raw value of the actual load
+	 * @param converter the converter of the actual load
+	 * @param conversion the conversion of the raw value
+	 * @return the converted value
+	 */
+	public Object getOrConvert(String rawValue, IConfigConverter converter, Supplier<Object> conversion)
+	{
+		final LastConversion lastConversion = _lastConversion;
+		if ((lastConversion != null) && lastConversion.isReusable(rawValue, converter))
+		{
+			return lastConversion.getValue();
+		}
+		
+		final Object value = conversion.get();
+		_lastConversion = new LastConversion(rawValue, converter, value);
+		return value;
+	}
+	
+	/**
+	 * Gets the configuration field information annotation.
+	 * @return the config field
+	 */
+	public ConfigField getConfigField()
+	{
+		return _configField;
+	}
+	
 	/**
 	 * Loads and configures the field with its proper values.
 	 * @param fieldLoadingContext the context of the actual loading
@@ -127,19 +215,38 @@ public final class ConfigFieldInfo
 		final Path configPath = fieldLoadingContext.getConfigPath();
 		final ConfigProperties properties = fieldLoadingContext.getProperties();
 		final Boolean isReloading = fieldLoadingContext.isReloading();
+		final ConfigComponentRegistry components = fieldLoadingContext.getComponents();
+		final ConfigPropertyRegistry propertyRegistry = fieldLoadingContext.getPropertyRegistry();
 		
 		Objects.requireNonNull(configPath, "ConfigPath is null in the loading context!");
 		Objects.requireNonNull(properties, "Properties is null in the loading context!");
 		Objects.requireNonNull(isReloading, "isReloading boolean is null in the loading context!");
+		Objects.requireNonNull(components, "Components is null in the loading context!");
+		Objects.requireNonNull(propertyRegistry, "Property registry is null in the loading context!");
 		
 		final String propertyKey = _configField.name();
-		ConfigPropertyRegistry.add(_clazz.getPackage().getName(), configPath, propertyKey);
+		propertyRegistry.register(_clazz.getPackage().getName(), configPath, propertyKey);
 		if (!_configField.reloadable() && isReloading)
 		{
 			LOGGER.debug("Property '{}' retained with its previous value!", propertyKey);
 			return;
 		}
 		
+		if (_binder != null)
+		{
+			final String fieldName = _field.getName();
+			final Object oldValue = _binder.get(fieldName);
+			final IConfigValueSupplier<?> supplier = components.get(_configField.valueSupplier());
+			final Object value = supplier.supply(this, fieldLoadingContext);
+			_binder.set(fieldName, value);
+			if (!_binder.postLoad(fieldName, components, properties))
+			{
+				components.get(_configField.postLoadHook()).load(properties);
+			}
+			addChange(fieldLoadingContext, propertyKey, oldValue, value);
+			return;
+		}
+		
 		// private field support
 		final boolean wasAccessible = _field.isAccessible(); /*_field.canAccess(null);*/
 		try
@@ -149,10 +256,12 @@ public final class ConfigFieldInfo
 				_field.setAccessible(true);
 			}
 			
-			final IConfigValueSupplier<?> supplier = ConfigComponents.get(_configField.valueSupplier());
-			final Object value = supplier.supply(_clazz, _field, _configField, properties, false);
+			final Object oldValue = _field.get(null);
+			final IConfigValueSupplier<?> supplier = components.get(_configField.valueSupplier());
+			final Object value = supplier.supply(this, fieldLoadingContext);
 			_field.set(null, value);
-			ConfigComponents.get(_configField.postLoadHook()).load(properties);
+			components.get(_configField.postLoadHook()).load(properties);
+			addChange(fieldLoadingContext, propertyKey, oldValue, value);
 		}
 		finally
 		{
@@ -161,67 +270,119 @@ public final class ConfigFieldInfo
 		}
 	}
 	
+	/**
+	 * Records the change of the value during a reload.
+	 * @param fieldLoadingContext the context of the actual loading
+	 * @param propertyKey the property key
+	 * @param oldValue the value before the reload
+	 * @param value the reloaded value
+	 */
+	private void addChange(ConfigFieldLoadingContext fieldLoadingContext, String propertyKey, Object oldValue, Object value)
+	{
+		final List<ConfigChangeEvent> changes = fieldLoadingContext.getChanges();
+		if (fieldLoadingContext.isReloading() && (changes != null) && !Objects.deepEquals(oldValue, value))
+		{
+			changes.add(new ConfigChangeEvent(propertyKey, _field, oldValue, value));
+		}
+	}
+	
+	/**
+	 * Converts the raw value into the type of the field. The generated binder converts the types of the {@link MainConfigConverter} directly, otherwise the converter is called.
+	 * @param converter the converter of the field
+	 * @param rawValue the raw value
+	 * @return the converted value
+	 */
+	public Object convert(IConfigConverter converter, String rawValue)
+	{
+		if ((_binder != null) && (converter.getClass() == MainConfigConverter.class))
+		{
+			final Object value = _binder.convert(_field.getName(), rawValue);
+			if (value != IConfigBinder.NOT_CONVERTED)
+			{
+				return value;
+			}
+		}
+		return converter.convertFromString(_field, _field.getType(), rawValue);
+	}
+	
+	/**
+	 * Gets the default value of the field, as it is written into the generated properties file.
+	 * @return the default value
+	 */
+	public String getDefaultValue() throws IllegalAccessException, InstantiationException
+	{
+		final IConfigValueSupplier<?> supplier = _components.get(_configField.valueSupplier());
+		return String.valueOf(supplier.supply(_clazz, _field, _configField, new ConfigProperties(), true, _components));
+	}
+	
 	/**
 	 * Prints the necessary field information into a {@link StringBuilder}.
 	 * @param out the {@link StringBuilder} that receives the output
 	 */
 	public void print(StringBuilder out) throws IllegalAccessException, InstantiationException
 	{
-		if (_beginningGroup != null)
+		try
 		{
-			out.append("########################################").append(System.lineSeparator());
-			out.append("## Section BEGIN: ").append(_beginningGroup.name()).append(System.lineSeparator());
-			
-			for (String line : _beginningGroup.comment())
-			{
-				out.append("# ").append(line).append(System.lineSeparator());
-			}
-			
-			out.append(System.lineSeparator());
+			print((Appendable) out);
 		}
-		
-		for (String line : _configField.comment())
+		catch (IOException e)
 		{
-			out.append("# ").append(line).append(System.lineSeparator());
+			// a StringBuilder never throws it
+			throw new UncheckedIOException(e);
 		}
-		
-		if (!_configField.onlyComment())
+	}
+	
+	/**
+	 * Prints the necessary field information into an {@link Appendable}, for example directly into the {@link java.io.Writer} of the generated file.
+	 * @param out the {@link Appendable} that receives the output
+	 * @throws IOException
+	 */
+	public void print(Appendable out) throws IOException, IllegalAccessException, InstantiationException
+	{
+		if (_beginningGroup != null)
 		{
-			out.append("# Default: ").append(_configField.value()).append(System.lineSeparator());
-			if (_field.getType().isEnum())
-			{
-				out.append("# Available: ").append(Arrays.stream(_field.getType().getEnumConstants()).map(String::valueOf).collect(Collectors.joining("|"))).append(System.lineSeparator());
-			}
-			else if (_field.getType().isArray())
-			{
-				final Class<?> fieldComponentType = _field.getType().getComponentType();
-				if (fieldComponentType.isEnum())
-				{
-					@SuppressWarnings("unchecked")
-					final EnumSet<?> collection = EnumSet.allOf(fieldComponentType.asSubclass(Enum.class));
-					out.append("# Available: ").append(collection.toString().replace("[", "").replace("]", "").replace(" ", "")).append(System.lineSeparator());
-				}
-			}
-			
-			final IConfigValueSupplier<?> supplier = ConfigComponents.get(_configField.valueSupplier());
-			final Object value = supplier.supply(_clazz, _field, _configField, new ConfigProperties(), true);
-			out.append(_configField.name()).append(" = ").append(value).append(System.lineSeparator());
-			
-			out.append(System.lineSeparator());
+			ConfigFileFormat.printGroupBeginning(out, _beginningGroup);
 		}
 		
+		ConfigFileFormat.printField(out, _configField, getAvailableValues(), _configField.onlyComment() ? null : getDefaultValue());
+		
 		if (_endingGroup != null)
 		{
-			for (String line : _endingGroup.comment())
+			ConfigFileFormat.printGroupEnding(out, _endingGroup);
+		}
+	}
+	
+	/**
+	 * Prints only the property of the field with its comments, without the group markers. Used when the property is appended to an existing file.
+	 * @param out the {@link Appendable} that receives the output
+	 * @throws IOException
+	 */
+	public void printProperty(Appendable out) throws IOException, IllegalAccessException, InstantiationException
+	{
+		ConfigFileFormat.printField(out, _configField, getAvailableValues(), _configField.onlyComment() ? null : getDefaultValue());
+	}
+	
+	/**
+	 * Gets the available values of enum and enum array fields.
+	 * @return the available values, or {@code null} if the field is not an enum
+	 */
+	private String getAvailableValues()
+	{
+		if (_field.getType().isEnum())
+		{
+			return Arrays.stream(_field.getType().getEnumConstants()).map(String::valueOf).collect(Collectors.joining("|"));
+		}
+		else if (_field.getType().isArray())
+		{
+			final Class<?> fieldComponentType = _field.getType().getComponentType();
+			if (fieldComponentType.isEnum())
 			{
-				out.append("# ").append(line).append(System.lineSeparator());
+				@SuppressWarnings("unchecked")
+				final EnumSet<?> collection = EnumSet.allOf(fieldComponentType.asSubclass(Enum.class));
+				return collection.toString().replace("[", "").replace("]", "").replace(" ", "");
 			}
-			
-			out.append("## Section END: ").append(_endingGroup.name()).append(System.lineSeparator());
-			out.append("########################################").append(System.lineSeparator());
-			
-			out.append(System.lineSeparator());
 		}
+		return null;
 	}
 	
 	@Override
@@ -274,4 +435,31 @@ public final class ConfigFieldInfo
 		}
 		return true;
 	}
+	
+	/**
+	 * An immutable record of a conversion: the raw value, the converter and the converted value.
+	 */
+	private static final class LastConversion
+	{
+		private final String _rawValue;
+		private final IConfigConverter _converter;
+		private final Object _value;
+		
+		LastConversion(String rawValue, IConfigConverter converter, Object value)
+		{
+			_rawValue = rawValue;
+			_converter = converter;
+			_value = value;
+		}
+		
+		boolean isReusable(String rawValue, IConfigConverter converter)
+		{
+			return (_converter == converter) && (rawValue != null) && rawValue.equals(_rawValue);
+		}
+		
+		Object getValue()
+		{
+			return _value;
+		}
+	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.model;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The summary of an asynchronous load or reload.
+ * @author lord_rex
+ */
+public final class ConfigLoadReport
+{
+	/** The package where configuration related classes are stored. */
+	private final String _packageName;
+	
+	/** Whether the loading was a reload or not. */
+	private final boolean _reloading;
+	
+	/** The successfully loaded configuration classes. */
+	private final List<Class<?>> _loadedClasses;
+	
+	/** The configuration classes that have failed to load, with the cause of their failure. */
+	private final Map<Class<?>, Throwable> _failures;
+	
+	/** The time the whole loading took. */
+	private final Duration _duration;
+	
+	/**
+	 * Constructs a new load report.
+	 * @param packageName the package where configuration related classes are stored
+	 * @param reloading whether the loading was a reload or not
+	 * @param loadedClasses the successfully loaded configuration classes
+	 * @param failures the configuration classes that have failed to load, with the cause of their failure
+	 * @param duration the time the whole loading took
+	 */
+	public ConfigLoadReport(String packageName, boolean reloading, List<Class<?>> loadedClasses, Map<Class<?>, Throwable> failures, Duration duration)
+	{
+		_packageName = packageName;
+		_reloading = reloading;
+		_loadedClasses = Collections.unmodifiableList(loadedClasses);
+		_failures = Collections.unmodifiableMap(failures);
+		_duration = duration;
+	}
+	
+	public String getPackageName()
+	{
+		return _packageName;
+	}
+	
+	public boolean isReloading()
+	{
+		return _reloading;
+	}
+	
+	public List<Class<?>> getLoadedClasses()
+	{
+		return _loadedClasses;
+	}
+	
+	public Map<Class<?>, Throwable> getFailures()
+	{
+		return _failures;
+	}
+	
+	public Duration getDuration()
+	{
+		return _duration;
+	}
+	
+	/**
+	 * Checks whether every configuration class has been loaded successfully.
+	 * @return {@code true} if there were no failures, otherwise {@code false}
+	 */
+	public boolean isSuccessful()
+	{
+		return _failures.isEmpty();
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "ConfigLoadReport [packageName=" + _packageName + ", reloading=" + _reloading + ", loaded=" + _loadedClasses.size() + ", failed=" + _failures.size() + ", duration=" + _duration + "]";
+	}
+}
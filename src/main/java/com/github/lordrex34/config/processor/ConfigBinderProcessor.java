@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.binder.IConfigBinder;
+import com.github.lordrex34.config.converter.MainConfigConverter;
+import com.github.lordrex34.config.postloadhooks.EmptyConfigPostLoadClassHook;
+import com.github.lordrex34.config.postloadhooks.EmptyConfigPostLoadFieldHook;
+import com.github.lordrex34.config.supplier.DefaultConfigSupplier;
+
+/**
+ * Generates an {@link com.github.lordrex34.config.binder.IConfigBinder} for every {@link ConfigClass}, with direct static field accesses, direct {@link com.github.lordrex34.config.lang.FieldParser} calls for the types of the {@link MainConfigConverter}, and direct post-load hook calls.<br>
+ * It is optional, enable it with the {@code -Aconfig.binders=true} compiler option.<br>
+ * Private fields, fields with a custom value supplier, and classes that are not accessible from their package are left to reflection.
+ * @author lord_rex
+ */
+@SupportedAnnotationTypes("com.github.lordrex34.config.annotation.ConfigClass")
+@SupportedOptions(ConfigBinderProcessor.OPTION)
+public final class ConfigBinderProcessor extends AbstractProcessor
+{
+	/** The compiler option that enables the binder generation. */
+	public static final String OPTION = "config.binders";
+	
+	private static final String FIELD_PARSER = "com.github.lordrex34.config.lang.FieldParser";
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (!Boolean.parseBoolean(processingEnv.getOptions().get(OPTION)))
+		{
+			return false;
+		}
+		
+		for (Element element : roundEnv.getElementsAnnotatedWith(ConfigClass.class))
+		{
+			if ((element.getKind() == ElementKind.CLASS) && isAccessible(element, getPackage(element)))
+			{
+				generate((TypeElement) element);
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether a class and its enclosing classes can be accessed from the package of the generated binder.
+	 * @param element the class
+	 * @param packageElement the package of the binder
+	 * @return {@code true} if the class is accessible, otherwise {@code false}
+	 */
+	private static boolean isAccessible(Element element, PackageElement packageElement)
+	{
+		final boolean samePackage = getPackage(element).equals(packageElement);
+		for (Element e = element; (e != null) && (e.getKind() != ElementKind.PACKAGE); e = e.getEnclosingElement())
+		{
+			if (!e.getKind().isClass() && !e.getKind().isInterface())
+			{
+				// local and anonymous classes
+				return false;
+			}
+			
+			final Set<Modifier> modifiers = e.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks whether the erasure of a type can be accessed from the package of the generated binder.
+	 * @param type the type
+	 * @param packageElement the package of the binder
+	 * @return {@code true} if the type is accessible, otherwise {@code false}
+	 */
+	private static boolean isAccessible(TypeMirror type, PackageElement packageElement)
+	{
+		if (type.getKind() == TypeKind.ARRAY)
+		{
+			return isAccessible(((ArrayType) type).getComponentType(), packageElement);
+		}
+		return (type.getKind() != TypeKind.DECLARED) || isAccessible(((DeclaredType) type).asElement(), packageElement);
+	}
+	
+	private static PackageElement getPackage(Element element)
+	{
+		Element e = element;
+		while (e.getKind() != ElementKind.PACKAGE)
+		{
+			e = e.getEnclosingElement();
+		}
+		return (PackageElement) e;
+	}
+	
+	/**
+	 * Checks whether the field can be bound without reflection.
+	 * @param field the field
+	 * @return {@code true} if the field can be bound, otherwise {@code false}
+	 */
+	private static boolean isBindable(Element field)
+	{
+		final Set<Modifier> modifiers = field.getModifiers();
+		if (!modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.PRIVATE))
+		{
+			return false;
+		}
+		
+		final ConfigField configField = field.getAnnotation(ConfigField.class);
+		return (configField != null) && !configField.onlyComment() && isAccessible(field.asType(), getPackage(field)) && ProcessorUtil.isDefault(ProcessorUtil.getClassValue(field, ConfigField.class, "valueSupplier"), DefaultConfigSupplier.class);
+	}
+	
+	/**
+	 * Writes the binder source of a configuration class.
+	 * @param typeElement the configuration class
+	 */
+	private void generate(TypeElement typeElement)
+	{
+		final String binderName = IConfigBinder.getBinderName(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+		final String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+		final String simpleName = binderName.substring(binderName.lastIndexOf('.') + 1);
+		final String className = typeElement.getQualifiedName().toString();
+		final PackageElement packageElement = getPackage(typeElement);
+		final List<Element> fields = typeElement.getEnclosedElements().stream().filter(e -> (e.getKind() == ElementKind.FIELD) && isBindable(e)).collect(Collectors.toList());
+		
+		final StringBuilder out = new StringBuilder();
+		if (!packageName.isEmpty())
+		{
+			out.append("package ").append(packageName).append(";\n\n");
+		}
+		out.append("/**\n");
+		out.append(" * Generated by {@link ").append(ConfigBinderProcessor.class.getName()).append("} for {@link ").append(className).append("}, do not edit.\n");
+		out.append(" */\n");
+		out.append("public final class ").append(simpleName).append(" implements com.github.lordrex34.config.binder.IConfigBinder\n");
+		out.append("{\n");
+		
+		// isBound
+		out.append("\t@Override\n");
+		out.append("\tpublic boolean isBound(String fieldName)\n");
+		out.append("\t{\n");
+		out.append("\t\tswitch (fieldName)\n");
+		out.append("\t\t{\n");
+		for (Element field : fields)
+		{
+			out.append("\t\t\tcase \"").append(field.getSimpleName()).append("\":\n");
+		}
+		if (!fields.isEmpty())
+		{
+			out.append("\t\t\t\treturn true;\n");
+		}
+		out.append("\t\t\tdefault:\n");
+		out.append("\t\t\t\treturn false;\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n\n");
+		
+		// get
+		out.append("\t@Override\n");
+		out.append("\tpublic Object get(String fieldName)\n");
+		out.append("\t{\n");
+		out.append("\t\tswitch (fieldName)\n");
+		out.append("\t\t{\n");
+		for (Element field : fields)
+		{
+			out.append("\t\t\tcase \"").append(field.getSimpleName()).append("\":\n");
+			out.append("\t\t\t\treturn ").append(className).append('.').append(field.getSimpleName()).append(";\n");
+		}
+		out.append("\t\t\tdefault:\n");
+		out.append("\t\t\t\tthrow new IllegalArgumentException(\"Field '\" + fieldName + \"' is not bound!\");\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n\n");
+		
+		// set
+		out.append("\t@Override\n");
+		out.append("\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+		out.append("\tpublic void set(String fieldName, Object value)\n");
+		out.append("\t{\n");
+		out.append("\t\tswitch (fieldName)\n");
+		out.append("\t\t{\n");
+		for (Element field : fields)
+		{
+			out.append("\t\t\tcase \"").append(field.getSimpleName()).append("\":\n");
+			out.append("\t\t\t\t").append(className).append('.').append(field.getSimpleName()).append(" = (").append(getCastType(field.asType())).append(") value;\n");
+			out.append("\t\t\t\treturn;\n");
+		}
+		out.append("\t\t\tdefault:\n");
+		out.append("\t\t\t\tthrow new IllegalArgumentException(\"Field '\" + fieldName + \"' is not bound!\");\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n\n");
+		
+		// convert
+		out.append("\t@Override\n");
+		out.append("\tpublic Object convert(String fieldName, String value)\n");
+		out.append("\t{\n");
+		out.append("\t\tswitch (fieldName)\n");
+		out.append("\t\t{\n");
+		for (Element field : fields)
+		{
+			final String conversion = ProcessorUtil.isDefault(ProcessorUtil.getClassValue(field, ConfigField.class, "converter"), MainConfigConverter.class) ? getConversion(field.asType(), field.getAnnotation(ConfigField.class).ignoreCase()) : null;
+			if (conversion != null)
+			{
+				out.append("\t\t\tcase \"").append(field.getSimpleName()).append("\":\n");
+				out.append("\t\t\t\treturn ").append(conversion).append(";\n");
+			}
+		}
+		out.append("\t\t\tdefault:\n");
+		out.append("\t\t\t\treturn NOT_CONVERTED;\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n\n");
+		
+		// field post-load hooks
+		out.append("\t@Override\n");
+		out.append("\tpublic boolean postLoad(String fieldName, com.github.lordrex34.config.component.ConfigComponentRegistry components, com.github.lordrex34.config.lang.ConfigProperties properties)\n");
+		out.append("\t{\n");
+		out.append("\t\tswitch (fieldName)\n");
+		out.append("\t\t{\n");
+		for (Element field : fields)
+		{
+			final String hook = ProcessorUtil.getClassValue(field, ConfigField.class, "postLoadHook");
+			if (!ProcessorUtil.isDefault(hook, EmptyConfigPostLoadFieldHook.class))
+			{
+				out.append("\t\t\tcase \"").append(field.getSimpleName()).append("\":\n");
+				if (isAccessible(hook, packageElement))
+				{
+					out.append("\t\t\t\tcomponents.get(").append(hook).append(".class).load(properties);\n");
+					out.append("\t\t\t\treturn true;\n");
+				}
+				else
+				{
+					out.append("\t\t\t\treturn false;\n");
+				}
+			}
+		}
+		out.append("\t\t\tdefault:\n");
+		out.append("\t\t\t\treturn true;\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n\n");
+		
+		// class post-load hook
+		final String classHook = ProcessorUtil.getClassValue(typeElement, ConfigClass.class, "postLoadHook");
+		out.append("\t@Override\n");
+		out.append("\tpublic boolean postLoad(com.github.lordrex34.config.component.ConfigComponentRegistry components)\n");
+		out.append("\t{\n");
+		if (ProcessorUtil.isDefault(classHook, EmptyConfigPostLoadClassHook.class))
+		{
+			out.append("\t\treturn true;\n");
+		}
+		else if (isAccessible(classHook, packageElement))
+		{
+			out.append("\t\tcomponents.get(").append(classHook).append(".class).load();\n");
+			out.append("\t\treturn true;\n");
+		}
+		else
+		{
+			out.append("\t\treturn false;\n");
+		}
+		out.append("\t}\n");
+		out.append("}\n");
+		
+		try
+		{
+			final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(binderName, typeElement);
+			try (Writer writer = sourceFile.openWriter())
+			{
+				writer.append(out);
+			}
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write config binder " + binderName + ": " + e.getMessage(), typeElement);
+		}
+	}
+	
+	/**
+	 * Checks whether a class, given by its canonical name, can be accessed from the package of the generated binder.
+	 * @param className the canonical name of the class
+	 * @param packageElement the package of the binder
+	 * @return {@code true} if the class is accessible, otherwise {@code false}
+	 */
+	private boolean isAccessible(String className, PackageElement packageElement)
+	{
+		final TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(className);
+		return (typeElement != null) && isAccessible(typeElement, packageElement);
+	}
+	
+	/**
+	 * Gets the type a value has to be cast to before it is assigned to the field. Primitives are cast to their wrapper, generic types to their erasure.
+	 * @param type the type of the field
+	 * @return the cast type
+	 */
+	private String getCastType(TypeMirror type)
+	{
+		if (type.getKind().isPrimitive())
+		{
+			return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind())).getQualifiedName().toString();
+		}
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+	
+	/**
+	 * Gets the direct conversion expression of the types handled by {@link com.github.lordrex34.config.lang.FieldParser#get(Class, String)}.
+	 * @param type the type of the field
+	 * @param ignoreCase whether the enum constants are matched ignoring their case
+	 * @return the conversion expression, or {@code null} if the type is converted by another converter
+	 */
+	private static String getConversion(TypeMirror type, boolean ignoreCase)
+	{
+		String typeName = type.toString();
+		if (type.getKind().isPrimitive())
+		{
+			typeName = type.getKind().name().toLowerCase();
+		}
+		else if ((type.getKind() == TypeKind.DECLARED) && (((DeclaredType) type).asElement().getKind() == ElementKind.ENUM))
+		{
+			return FIELD_PARSER + ".getEnum(" + typeName + ".class, value" + (ignoreCase ? ", true" : "") + ")";
+		}
+		
+		switch (typeName)
+		{
+			case "boolean":
+			case "java.lang.Boolean":
+				return FIELD_PARSER + ".getBoolean(value)";
+			case "long":
+			case "java.lang.Long":
+				return FIELD_PARSER + ".getLong(value)";
+			case "int":
+			case "java.lang.Integer":
+				return FIELD_PARSER + ".getInteger(value)";
+			case "short":
+			case "java.lang.Short":
+				return FIELD_PARSER + ".getShort(value)";
+			case "byte":
+			case "java.lang.Byte":
+				return FIELD_PARSER + ".getByte(value)";
+			case "double":
+			case "java.lang.Double":
+				return FIELD_PARSER + ".getDouble(value)";
+			case "float":
+			case "java.lang.Float":
+				return FIELD_PARSER + ".getFloat(value)";
+			case "java.lang.String":
+				return FIELD_PARSER + ".getString(value)";
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.processor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.annotation.ConfigGroupBeginning;
+import com.github.lordrex34.config.annotation.ConfigGroupEnding;
+import com.github.lordrex34.config.converter.MainConfigConverter;
+import com.github.lordrex34.config.supplier.DefaultConfigSupplier;
+import com.github.lordrex34.config.util.ConfigFileFormat;
+
+/**
+ * Writes the default properties file of every {@link ConfigClass} at compile time, under {@link ConfigFileFormat#DEFAULTS_RESOURCE_PREFIX} of the class output, keyed by the binary name of the class.<br>
+ * When a properties file is missing at runtime, {@link com.github.lordrex34.config.model.ConfigClassInfo#generate()} copies the packaged one instead of rendering it.<br>
+ * It is optional, enable it with the {@code -Aconfig.defaults=true} compiler option.<br>
+ * The runtime writes the default values converted and converted back to string, so a class is packaged only if every declared {@link ConfigField#value()} is already in that form: strings, primitives, enums and arrays of them, with the default converter.
+ * The other classes, and classes with a custom {@link ConfigField#valueSupplier()}, are skipped, their files are still generated at runtime.<br>
+ * The files are written with {@code \n} line separators, the runtime translates them to {@link ConfigFileFormat#LINE_SEPARATOR}.<br>
+ * The packaged files contain the declared values only. When a field of the class is overridden by an environment variable or a system property, see {@link DefaultConfigSupplier#getOverride(java.lang.Class, java.lang.reflect.Field)}, the file is rendered at runtime with the overriding value, like without the packaged defaults.
+ * @author lord_rex
+ */
+@SupportedAnnotationTypes("com.github.lordrex34.config.annotation.ConfigClass")
+@SupportedOptions(ConfigDefaultsProcessor.OPTION)
+public final class ConfigDefaultsProcessor extends AbstractProcessor
+{
+	/** The compiler option that enables the packaged defaults. */
+	public static final String OPTION = "config.defaults";
+	
+	/** The written resources with the classes they were written for. */
+	private final Map<String, String> _generated = new HashMap<>();
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (!Boolean.parseBoolean(processingEnv.getOptions().get(OPTION)))
+		{
+			return false;
+		}
+		
+		for (Element element : roundEnv.getElementsAnnotatedWith(ConfigClass.class))
+		{
+			if ((element.getKind() == ElementKind.CLASS) || (element.getKind() == ElementKind.INTERFACE))
+			{
+				generate((TypeElement) element);
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Writes the default properties file of a configuration class.
+	 * @param typeElement the configuration class
+	 */
+	private void generate(TypeElement typeElement)
+	{
+		final List<Element> fields = typeElement.getEnclosedElements().stream().filter(element -> (element.getKind() == ElementKind.FIELD) && (element.getAnnotation(ConfigField.class) != null)).collect(Collectors.toList());
+		for (Element field : fields)
+		{
+			if (!ProcessorUtil.isDefault(ProcessorUtil.getClassValue(field, ConfigField.class, "valueSupplier"), DefaultConfigSupplier.class))
+			{
+				processingEnv.getMessager().printMessage(Kind.NOTE, "Field " + field.getSimpleName() + " has a custom value supplier, the defaults of " + typeElement.getQualifiedName() + " are generated at runtime.", field);
+				return;
+			}
+			
+			final ConfigField configField = field.getAnnotation(ConfigField.class);
+			if (!configField.onlyComment() && !isCanonical(field, configField.value()))
+			{
+				processingEnv.getMessager().printMessage(Kind.NOTE, "Field " + field.getSimpleName() + " has a default value that is converted at runtime, the defaults of " + typeElement.getQualifiedName() + " are generated at runtime.", field);
+				return;
+			}
+		}
+		
+		final ConfigClass configClass = typeElement.getAnnotation(ConfigClass.class);
+		final String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+		final String resourceName = ConfigFileFormat.getDefaultsResourceName(className, configClass);
+		final String previous = _generated.putIfAbsent(resourceName, className);
+		if (previous != null)
+		{
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Default config file " + resourceName + " is already generated for " + previous + "!", typeElement);
+			return;
+		}
+		
+		try
+		{
+			final StringBuilder content = new StringBuilder();
+			ConfigFileFormat.printHeader(content, configClass);
+			for (Element field : fields)
+			{
+				final ConfigField configField = field.getAnnotation(ConfigField.class);
+				final ConfigGroupBeginning beginningGroup = field.getAnnotation(ConfigGroupBeginning.class);
+				if (beginningGroup != null)
+				{
+					ConfigFileFormat.printGroupBeginning(content, beginningGroup);
+				}
+				
+				ConfigFileFormat.printField(content, configField, getAvailableValues(field.asType()), configField.value());
+				
+				final ConfigGroupEnding endingGroup = field.getAnnotation(ConfigGroupEnding.class);
+				if (endingGroup != null)
+				{
+					ConfigFileFormat.printGroupEnding(content, endingGroup);
+				}
+			}
+			
+			// independent of the machine that compiles it
+			final String packaged = content.toString().replace(ConfigFileFormat.LINE_SEPARATOR, ConfigFileFormat.PACKAGED_LINE_SEPARATOR);
+			final FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resourceName, typeElement);
+			try (OutputStream out = fileObject.openOutputStream())
+			{
+				out.write(packaged.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write default config file " + resourceName + ": " + e.getMessage(), typeElement);
+		}
+	}
+	
+	/**
+	 * Checks whether the declared default value is the same as the runtime writes it, after converting it and converting it back to string.
+	 * @param field the field
+	 * @param value the declared default value
+	 * @return {@code true} if the value is written unchanged at runtime, otherwise {@code false}
+	 */
+	private static boolean isCanonical(Element field, String value)
+	{
+		if (!ProcessorUtil.isDefault(ProcessorUtil.getClassValue(field, ConfigField.class, "converter"), MainConfigConverter.class))
+		{
+			return false;
+		}
+		
+		final TypeMirror type = field.asType();
+		if (type.getKind() != TypeKind.ARRAY)
+		{
+			return isCanonicalElement(type, value);
+		}
+		
+		if (value.isEmpty())
+		{
+			return true;
+		}
+		
+		final String[] elements = value.split(",");
+		if (!String.join(",", elements).equals(value))
+		{
+			// trailing empty elements are dropped
+			return false;
+		}
+		
+		final TypeMirror componentType = ((ArrayType) type).getComponentType();
+		for (String element : elements)
+		{
+			if (!isCanonicalElement(componentType, element))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static boolean isCanonicalElement(TypeMirror type, String value)
+	{
+		try
+		{
+			switch (getKind(type))
+			{
+				case BOOLEAN:
+					return value.equals(String.valueOf(Boolean.parseBoolean(value)));
+				case BYTE:
+				case SHORT:
+				case INT:
+				case LONG:
+					return value.equals(String.valueOf(Long.parseLong(value)));
+				case FLOAT:
+					return value.equals(String.valueOf(Float.parseFloat(value)));
+				case DOUBLE:
+					return value.equals(String.valueOf(Double.parseDouble(value)));
+				case DECLARED:
+					return isCanonicalObject((DeclaredType) type, value);
+				default:
+					return false;
+			}
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	}
+	
+	private static boolean isCanonicalObject(DeclaredType type, String value)
+	{
+		final Element element = type.asElement();
+		if (element.getKind() == ElementKind.ENUM)
+		{
+			// the runtime writes toString(), which is the name only if it is not overridden
+			final boolean toStringOverridden = element.getEnclosedElements().stream().anyMatch(enclosed -> (enclosed.getKind() == ElementKind.METHOD) && enclosed.getSimpleName().contentEquals("toString") && ((ExecutableElement) enclosed).getParameters().isEmpty());
+			return !toStringOverridden && element.getEnclosedElements().stream().anyMatch(enclosed -> (enclosed.getKind() == ElementKind.ENUM_CONSTANT) && enclosed.getSimpleName().contentEquals(value));
+		}
+		
+		return ((TypeElement) element).getQualifiedName().contentEquals(String.class.getName());
+	}
+	
+	/**
+	 * Gets the kind of a type, with the boxed primitives unboxed.
+	 * @param type the type
+	 * @return the kind of the type
+	 */
+	private static TypeKind getKind(TypeMirror type)
+	{
+		if (type.getKind() != TypeKind.DECLARED)
+		{
+			return type.getKind();
+		}
+		
+		switch (((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString())
+		{
+			case "java.lang.Boolean":
+				return TypeKind.BOOLEAN;
+			case "java.lang.Byte":
+				return TypeKind.BYTE;
+			case "java.lang.Short":
+				return TypeKind.SHORT;
+			case "java.lang.Integer":
+				return TypeKind.INT;
+			case "java.lang.Long":
+				return TypeKind.LONG;
+			case "java.lang.Float":
+				return TypeKind.FLOAT;
+			case "java.lang.Double":
+				return TypeKind.DOUBLE;
+			default:
+				return TypeKind.DECLARED;
+		}
+	}
+	
+	/**
+	 * Gets the available values of enum and enum array fields, in the same format as the runtime generation.
+	 * @param type the type of the field
+	 * @return the available values, or {@code null} if the field is not an enum
+	 */
+	private static String getAvailableValues(TypeMirror type)
+	{
+		if (type.getKind() == TypeKind.ARRAY)
+		{
+			return getEnumConstants(((ArrayType) type).getComponentType(), ",");
+		}
+		return getEnumConstants(type, "|");
+	}
+	
+	private static String getEnumConstants(TypeMirror type, String delimiter)
+	{
+		if (type.getKind() != TypeKind.DECLARED)
+		{
+			return null;
+		}
+		
+		final Element element = ((DeclaredType) type).asElement();
+		if (element.getKind() != ElementKind.ENUM)
+		{
+			return null;
+		}
+		
+		return element.getEnclosedElements().stream().filter(enclosed -> enclosed.getKind() == ElementKind.ENUM_CONSTANT).map(enclosed -> enclosed.getSimpleName().toString()).collect(Collectors.joining(delimiter));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.processor;
+
+import java.util.Map.Entry;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * Helpers shared by the annotation processors.
+ * @author lord_rex
+ */
+final class ProcessorUtil
+{
+	private ProcessorUtil()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Gets a class attribute of an annotation. Class values cannot be read from the annotation itself at compile time, so the mirror is inspected.
+	 * @param element the annotated element
+	 * @param annotation the annotation
+	 * @param attribute the name of the attribute
+	 * @return the canonical name of the class, or {@code null} if the attribute has its default value
+	 */
+	static String getClassValue(Element element, Class<?> annotation, String attribute)
+	{
+		for (AnnotationMirror annotationMirror : element.getAnnotationMirrors())
+		{
+			if (!annotationMirror.getAnnotationType().toString().equals(annotation.getCanonicalName()))
+			{
+				continue;
+			}
+			
+			for (Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet())
+			{
+				if (entry.getKey().getSimpleName().contentEquals(attribute))
+				{
+					return entry.getValue().getValue().toString();
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Checks whether a class attribute read by {@link #getClassValue(Element, Class, String)} is the default one.
+	 * @param className the canonical name of the class, or {@code null}
+	 * @param defaultClass the default class of the attribute
+	 * @return {@code true} if the attribute is the default one, otherwise {@code false}
+	 */
+	static boolean isDefault(String className, Class<?> defaultClass)
+	{
+		return (className == null) || className.equals(defaultClass.getCanonicalName());
+	}
+}
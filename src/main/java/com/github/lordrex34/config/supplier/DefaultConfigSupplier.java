@@ -22,12 +22,16 @@
 package com.github.lordrex34.config.supplier;
 
 import java.lang.reflect.Field;
+import java.util.function.Supplier;
 
 import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
 import com.github.lordrex34.config.component.ConfigComponents;
+import com.github.lordrex34.config.context.ConfigFieldLoadingContext;
 import com.github.lordrex34.config.converter.IConfigConverter;
 import com.github.lordrex34.config.lang.ConfigProperties;
 import com.github.lordrex34.config.lang.FieldParser.FieldParserException;
+import com.github.lordrex34.config.model.ConfigFieldInfo;
 
 /**
  * This is the configuration value supplier used by {@link ConfigField} annotation by default.
@@ -37,17 +41,48 @@ public class DefaultConfigSupplier implements IConfigValueSupplier<Object>
 {
 	@Override
 	public Object supply(Class<?> clazz, Field field, ConfigField configField, ConfigProperties properties, boolean generating)
+	{
+		return supply(clazz, field, configField, properties, generating, ConfigComponents.getRegistry());
+	}
+	
+	@Override
+	public Object supply(Class<?> clazz, Field field, ConfigField configField, ConfigProperties properties, boolean generating, ConfigComponentRegistry components)
 	{
 		final String propertyKey = configField.name();
 		final String propertyValue = configField.value();
 		
 		final String configProperty = getProperty(clazz, field, propertyKey, propertyValue, properties);
-		final IConfigConverter converter = ConfigComponents.get(configField.converter());
+		final IConfigConverter converter = components.get(configField.converter());
 		
+		final Object value = convert(propertyKey, () -> converter.convertFromString(field, field.getType(), configProperty));
+		return generating ? converter.convertToString(field, field.getType(), value) : value;
+	}
+	
+	@Override
+	public Object supply(ConfigFieldInfo fieldInfo, ConfigFieldLoadingContext fieldLoadingContext)
+	{
+		final Class<?> clazz = fieldInfo.getDeclaringClass();
+		final Field field = fieldInfo.getField();
+		final ConfigField configField = fieldInfo.getConfigField();
+		
+		final String configProperty = getProperty(clazz, field, configField.name(), configField.value(), fieldLoadingContext.getProperties());
+		final IConfigConverter converter = fieldLoadingContext.getComponents().get(configField.converter());
+		
+		// If the raw value is the same as it was during the last load, the conversion is skipped.
+		return fieldInfo.getOrConvert(configProperty, converter, () -> convert(configField.name(), () -> fieldInfo.convert(converter, configProperty)));
+	}
+	
+	/**
+	 * Converts the raw property value into the type of the field.
+	 * @param propertyKey the property key, used for error reporting
+	 * @param conversion the conversion of the raw property value
+	 * @return the converted value
+	 */
+	private Object convert(String propertyKey, Supplier<Object> conversion)
+	{
 		try
 		{
-			final Object value = converter.convertFromString(field, field.getType(), configProperty);
-			return generating ? converter.convertToString(field, field.getType(), value) : value;
+			return conversion.get();
 		}
 		catch (FieldParserException e)
 		{
@@ -72,15 +107,27 @@ public class DefaultConfigSupplier implements IConfigValueSupplier<Object>
 	 */
 	private String getProperty(Class<?> clazz, Field field, String propertyKey, String propertyValue, ConfigProperties properties)
 	{
-		String configProperty = System.getenv((clazz.getSimpleName() + "_" + field.getName()).toUpperCase());
+		String configProperty = getOverride(clazz, field);
 		if (configProperty == null)
 		{
-			configProperty = System.getProperty(clazz.getSimpleName() + "." + field.getName());
-			if (configProperty == null)
-			{
-				configProperty = properties.getProperty(propertyKey, propertyValue);
-			}
+			configProperty = properties.getProperty(propertyKey, propertyValue);
 		}
 		return configProperty;
 	}
+	
+	/**
+	 * Gets the value of a field set by an environment variable or a system property, that takes precedence over the properties files.
+	 * @param clazz the class of the field
+	 * @param field the field
+	 * @return the overriding value, or {@code null} if there is none
+	 */
+	public static String getOverride(Class<?> clazz, Field field)
+	{
+		final String configProperty = System.getenv((clazz.getSimpleName() + "_" + field.getName()).toUpperCase());
+		if (configProperty != null)
+		{
+			return configProperty;
+		}
+		return System.getProperty(clazz.getSimpleName() + "." + field.getName());
+	}
 }
@@ -24,8 +24,11 @@ package com.github.lordrex34.config.supplier;
 import java.lang.reflect.Field;
 
 import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
 import com.github.lordrex34.config.component.IConfigComponent;
+import com.github.lordrex34.config.context.ConfigFieldLoadingContext;
 import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.model.ConfigFieldInfo;
 
 /**
  * Configuration value supplier interface.
@@ -47,4 +50,34 @@ public interface IConfigValueSupplier<T> extends IConfigComponent
 	 * @throws IllegalAccessException
 	 */
 	T supply(Class<?> clazz, Field field, ConfigField configField, ConfigProperties properties, boolean generating) throws InstantiationException, IllegalAccessException;
+	
+	/**
+	 * Supplies a value to the field that is being configured, using the components of the given registry. Implementations that use components should override it.
+	 * @param clazz the {@link Class} that is being configured.
+	 * @param field the {@link Field} that is being configured.
+	 * @param configField the {@link ConfigField} that is being processed
+	 * @param properties mixture of normal and overridden properties
+	 * @param generating true if configuration is being generated
+	 * @param components the component registry of the manager, or the one used outside of the managers
+	 * @return the supplied value
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	default T supply(Class<?> clazz, Field field, ConfigField configField, ConfigProperties properties, boolean generating, ConfigComponentRegistry components) throws InstantiationException, IllegalAccessException
+	{
+		return supply(clazz, field, configField, properties, generating);
+	}
+	
+	/**
+	 * Supplies a value to the field that is being loaded. Implementations may override it to reuse the value of the previous load.
+	 * @param fieldInfo the {@link ConfigFieldInfo} that is being loaded
+	 * @param fieldLoadingContext the context of the actual loading
+	 * @return the supplied value
+	 * @throws InstantiationException
+	 * @throws IllegalAccessException
+	 */
+	default T supply(ConfigFieldInfo fieldInfo, ConfigFieldLoadingContext fieldLoadingContext) throws InstantiationException, IllegalAccessException
+	{
+		return supply(fieldInfo.getDeclaringClass(), fieldInfo.getField(), fieldInfo.getConfigField(), fieldLoadingContext.getProperties(), false, fieldLoadingContext.getComponents());
+	}
 }
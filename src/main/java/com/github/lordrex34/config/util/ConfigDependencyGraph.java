@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.github.lordrex34.config.model.ConfigClassInfo;
+
+/**
+ * Orders configuration classes by their {@link com.github.lordrex34.config.annotation.ConfigClass#dependsOn()} and {@link com.github.lordrex34.config.annotation.ConfigClass#priority()} attributes.
+ * @author lord_rex
+ */
+public final class ConfigDependencyGraph
+{
+	/** Higher priority first, then by name, so the order doesn't depend on the scanning order. */
+	private static final Comparator<ConfigClassInfo> PRIORITY_ORDER = Comparator.comparingInt(ConfigClassInfo::getPriority).reversed().thenComparing(configClassInfo -> configClassInfo.getConfigClass().getName());
+	
+	private ConfigDependencyGraph()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Sorts the configuration classes into topological waves. Every class of a wave depends only on classes of the previous waves, so the classes of a wave can be loaded in parallel.<br>
+	 * Inside a wave the classes are ordered by their priority.
+	 * @param configClassInfos the configuration classes
+	 * @return the waves
+	 * @throws IllegalArgumentException if the dependencies contain a cycle
+	 */
+	public static List<List<ConfigClassInfo>> sortInWaves(Collection<ConfigClassInfo> configClassInfos)
+	{
+		final Map<Class<?>, ConfigClassInfo> byClass = new HashMap<>();
+		configClassInfos.forEach(configClassInfo -> byClass.put(configClassInfo.getConfigClass(), configClassInfo));
+		
+		final Map<ConfigClassInfo, Integer> inDegrees = new HashMap<>();
+		final Map<ConfigClassInfo, List<ConfigClassInfo>> dependents = new HashMap<>();
+		for (ConfigClassInfo configClassInfo : configClassInfos)
+		{
+			final List<ConfigClassInfo> dependencies = getDependencies(configClassInfo, byClass);
+			dependencies.forEach(dependency -> dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(configClassInfo));
+			inDegrees.put(configClassInfo, dependencies.size());
+		}
+		
+		final List<List<ConfigClassInfo>> waves = new ArrayList<>();
+		List<ConfigClassInfo> wave = inDegrees.entrySet().stream().filter(entry -> entry.getValue() == 0).map(Map.Entry::getKey).collect(Collectors.toList());
+		int sorted = 0;
+		while (!wave.isEmpty())
+		{
+			wave.sort(PRIORITY_ORDER);
+			waves.add(wave);
+			sorted += wave.size();
+			
+			final List<ConfigClassInfo> nextWave = new ArrayList<>();
+			for (ConfigClassInfo configClassInfo : wave)
+			{
+				for (ConfigClassInfo dependent : dependents.getOrDefault(configClassInfo, Collections.emptyList()))
+				{
+					if (inDegrees.merge(dependent, -1, Integer::sum) == 0)
+					{
+						nextWave.add(dependent);
+					}
+				}
+			}
+			wave = nextWave;
+		}
+		
+		if (sorted != inDegrees.size())
+		{
+			//@formatter:off
+			final String cycle = inDegrees.entrySet().stream()
+				.filter(entry -> entry.getValue() > 0)
+				.map(entry -> entry.getKey().getConfigClass().getName())
+				.sorted()
+				.collect(Collectors.joining(", "));
+			//@formatter:on
+			throw new IllegalArgumentException("Config classes have cyclic dependencies: " + cycle + "!");
+		}
+		
+		return waves;
+	}
+	
+	/**
+	 * Gets the dependencies of a configuration class among the given classes.
+	 * @param configClassInfo the configuration class
+	 * @param byClass the configuration classes by their class
+	 * @return the dependencies
+	 */
+	public static List<ConfigClassInfo> getDependencies(ConfigClassInfo configClassInfo, Map<Class<?>, ConfigClassInfo> byClass)
+	{
+		final List<ConfigClassInfo> dependencies = new ArrayList<>();
+		for (Class<?> dependencyClass : configClassInfo.getDependencies())
+		{
+			final ConfigClassInfo dependency = byClass.get(dependencyClass);
+			if ((dependency != null) && (dependency != configClassInfo) && !dependencies.contains(dependency))
+			{
+				dependencies.add(dependency);
+			}
+		}
+		return dependencies;
+	}
+}
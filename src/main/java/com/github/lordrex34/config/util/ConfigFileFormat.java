@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.util;
+
+import java.io.IOException;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.annotation.ConfigGroupBeginning;
+import com.github.lordrex34.config.annotation.ConfigGroupEnding;
+
+/**
+ * Renders the parts of a generated properties file. It is shared by the runtime generation and the compile-time {@link com.github.lordrex34.config.processor.ConfigDefaultsProcessor}, so both produce the same layout.
+ * @author lord_rex
+ */
+public final class ConfigFileFormat
+{
+	/** The class path location of the default properties files written by the annotation processor. */
+	public static final String DEFAULTS_RESOURCE_PREFIX = "META-INF/config-defaults/";
+	
+	/** The line separator of the generated files, every line uses the same one. */
+	public static final String LINE_SEPARATOR = System.lineSeparator();
+	
+	/** The line separator of the packaged default files, they don't depend on the machine that compiled them. */
+	public static final String PACKAGED_LINE_SEPARATOR = "\n";
+	
+	private ConfigFileFormat()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Gets the class path resource name of the packaged default properties file of a configuration class. It is keyed by the class, because several classes may share the same properties file.
+	 * @param className the binary name of the configuration class
+	 * @param configClass the configuration class annotation
+	 * @return the resource name
+	 */
+	public static String getDefaultsResourceName(String className, ConfigClass configClass)
+	{
+		return DEFAULTS_RESOURCE_PREFIX + className + configClass.fileExtension();
+	}
+	
+	/**
+	 * Prints the header and the comment of the file.
+	 * @param out the {@link Appendable} that receives the output
+	 * @param configClass the configuration class annotation
+	 * @throws IOException
+	 */
+	public static void printHeader(Appendable out, ConfigClass configClass) throws IOException
+	{
+		// Header.
+		out.append("################################################################################").append(LINE_SEPARATOR);
+		out.append("## ").append(configClass.fileName().replace("_", " ")).append(" Settings").append(LINE_SEPARATOR);
+		out.append("################################################################################").append(LINE_SEPARATOR);
+		
+		out.append(LINE_SEPARATOR); // separator
+		
+		// File comment if exists.
+		if ((configClass.comment() != null) && (configClass.comment().length > 0))
+		{
+			for (String line : configClass.comment())
+			{
+				out.append("# ").append(line).append(LINE_SEPARATOR);
+			}
+			out.append(LINE_SEPARATOR);
+		}
+	}
+	
+	/**
+	 * Prints a property, or only its comment.
+	 * @param out the {@link Appendable} that receives the output
+	 * @param configField the configuration field annotation
+	 * @param available the available values of enum fields, or {@code null}
+	 * @param value the default value, ignored if the field is only a comment
+	 * @throws IOException
+	 */
+	public static void printField(Appendable out, ConfigField configField, String available, String value) throws IOException
+	{
+		for (String line : configField.comment())
+		{
+			out.append("# ").append(line).append(LINE_SEPARATOR);
+		}
+		
+		if (!configField.onlyComment())
+		{
+			out.append("# Default: ").append(configField.value()).append(LINE_SEPARATOR);
+			if (available != null)
+			{
+				out.append("# Available: ").append(available).append(LINE_SEPARATOR);
+			}
+			
+			out.append(configField.name()).append(" = ").append(value).append(LINE_SEPARATOR);
+			
+			out.append(LINE_SEPARATOR);
+		}
+	}
+	
+	/**
+	 * Prints the beginning of a group.
+	 * @param out the {@link Appendable} that receives the output
+	 * @param beginningGroup the group beginning marker annotation
+	 * @throws IOException
+	 */
+	public static void printGroupBeginning(Appendable out, ConfigGroupBeginning beginningGroup) throws IOException
+	{
+		out.append("########################################").append(LINE_SEPARATOR);
+		out.append("## Section BEGIN: ").append(beginningGroup.name()).append(LINE_SEPARATOR);
+		
+		for (String line : beginningGroup.comment())
+		{
+			out.append("# ").append(line).append(LINE_SEPARATOR);
+		}
+		
+		out.append(LINE_SEPARATOR);
+	}
+	
+	/**
+	 * Prints the ending of a group.
+	 * @param out the {@link Appendable} that receives the output
+	 * @param endingGroup the group ending marker annotation
+	 * @throws IOException
+	 */
+	public static void printGroupEnding(Appendable out, ConfigGroupEnding endingGroup) throws IOException
+	{
+		for (String line : endingGroup.comment())
+		{
+			out.append("# ").append(line).append(LINE_SEPARATOR);
+		}
+		
+		out.append("## Section END: ").append(endingGroup.name()).append(LINE_SEPARATOR);
+		out.append("########################################").append(LINE_SEPARATOR);
+		
+		out.append(LINE_SEPARATOR);
+	}
+}
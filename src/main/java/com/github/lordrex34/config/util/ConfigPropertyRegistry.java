@@ -32,32 +32,64 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A reload supporting registry used to check duplicated properties.
+ * A reload supporting registry used to check duplicated properties. Each {@code ConfigManager} has its own registry.
  * @author lord_rex
  */
 public final class ConfigPropertyRegistry
 {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ConfigPropertyRegistry.class);
 	
+	/** The registry used by the static methods, shared by everything outside of the managers. */
+	private static final ConfigPropertyRegistry SHARED = new ConfigPropertyRegistry();
+	
 	/** Properties registry, that is used for misplaced configuration indication. */
-	private static final Map<String, Map<Path, Set<String>>> PROPERTIES = new TreeMap<>();
+	private final Map<String, Map<Path, Set<String>>> _properties = new TreeMap<>();
+	
+	/**
+	 * Registers a configuration property into the shared registry.
+	 * @param packageName the package where configuration related classes are stored
+	 * @param configFile path of the configuration file
+	 * @param propertyKey the property key to be registered into the shared registry
+	 * @deprecated each {@code ConfigManager} has its own registry, use {@link #register(String, Path, String)} on it
+	 */
+	@Deprecated
+	public static void add(String packageName, Path configFile, String propertyKey)
+	{
+		SHARED.register(packageName, configFile, propertyKey);
+	}
+	
+	/**
+	 * Clears registered properties of the shared registry that are bound to the specific package.
+	 * @param packageName the package where configuration related classes are stored
+	 * @deprecated each {@code ConfigManager} has its own registry, use {@link #reset(String)} on it
+	 */
+	@Deprecated
+	public static void clear(String packageName)
+	{
+		SHARED.reset(packageName);
+	}
 	
-	private ConfigPropertyRegistry()
+	/**
+	 * Clears all the entries from the shared registry.
+	 * @deprecated each {@code ConfigManager} has its own registry, use {@link #resetAll()} on it
+	 */
+	@Deprecated
+	public static void clearAll()
 	{
-		// utility class
+		SHARED.resetAll();
 	}
 	
 	/**
-	 * Registers a configuration property into this manager.
+	 * Registers a configuration property into this registry.
 	 * @param packageName the package where configuration related classes are stored
 	 * @param configFile path of the configuration file
-	 * @param propertyKey the property key to be registered into {@code PROPERTIES_REGISTRY}
+	 * @param propertyKey the property key to be registered into this registry
 	 */
-	public static void add(String packageName, Path configFile, String propertyKey)
+	public synchronized void register(String packageName, Path configFile, String propertyKey)
 	{
-		PROPERTIES.computeIfAbsent(packageName, k -> new HashMap<>()).putIfAbsent(configFile, new TreeSet<>());
+		_properties.computeIfAbsent(packageName, k -> new HashMap<>()).putIfAbsent(configFile, new TreeSet<>());
 		
-		PROPERTIES.values().forEach(map ->
+		_properties.values().forEach(map ->
 		{
 			map.entrySet().forEach(entry ->
 			{
@@ -71,16 +103,16 @@ public final class ConfigPropertyRegistry
 			});
 		});
 		
-		PROPERTIES.get(packageName).get(configFile).add(propertyKey);
+		_properties.get(packageName).get(configFile).add(propertyKey);
 	}
 	
 	/**
 	 * Clears registered properties that are bound to the specific package.
 	 * @param packageName the package where configuration related classes are stored
 	 */
-	public static void clear(String packageName)
+	public synchronized void reset(String packageName)
 	{
-		final Map<Path, Set<String>> registry = PROPERTIES.get(packageName);
+		final Map<Path, Set<String>> registry = _properties.get(packageName);
 		if (registry != null)
 		{
 			registry.clear();
@@ -90,8 +122,8 @@ public final class ConfigPropertyRegistry
 	/**
 	 * Clears all the entries from the registry.
 	 */
-	public static void clearAll()
+	public synchronized void resetAll()
 	{
-		PROPERTIES.clear();
+		_properties.clear();
 	}
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.lordrex34.config.lang.ConfigProperties;
+
+/**
+ * A binary cache of the parsed properties files, used to skip the parsing of the unchanged files on restart.<br>
+ * Each file is keyed by its path, and validated by its size and the CRC32 of its content. The modification time is not trusted, it can stay the same after an edit, so the files are still read, only their parsing is skipped.<br>
+ * Layout of the snapshot file: magic, version, CRC32 of the body, then the body: entry count, and for every entry the path, size, CRC32 of the content and the raw key-value pairs.
+ * @author lord_rex
+ */
+public final class ConfigSnapshot
+{
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConfigSnapshot.class);
+	
+	private static final int MAGIC = 0x43464753; // "CFGS"
+	private static final int VERSION = 2;
+	private static final int HEADER_SIZE = 16;
+	
+	/** The snapshot file. */
+	private final Path _path;
+	
+	/** The cached files by their path. */
+	private final Map<String, SnapshotEntry> _entries = new ConcurrentHashMap<>();
+	
+	/** Whether the cache has been changed since it was read or written. */
+	private volatile boolean _dirty;
+	
+	private ConfigSnapshot(Path path)
+	{
+		_path = path;
+	}
+	
+	/**
+	 * Reads the snapshot file into a heap buffer. It is not memory mapped, because a mapping keeps the file locked on some platforms until it is garbage collected, and the snapshot is replaced on write.<br>
+	 * A missing, outdated or corrupted snapshot results in an empty cache.
+	 * @param path the snapshot file
+	 * @return the snapshot
+	 */
+	public static ConfigSnapshot read(Path path)
+	{
+		final ConfigSnapshot snapshot = new ConfigSnapshot(path);
+		if (Files.notExists(path))
+		{
+			return snapshot;
+		}
+		
+		try
+		{
+			final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+			if ((buffer.remaining() < HEADER_SIZE) || (buffer.getInt() != MAGIC) || (buffer.getInt() != VERSION))
+			{
+				LOGGER.warn("Config snapshot '{}' is not compatible, ignoring it.", path);
+				return snapshot;
+			}
+			
+			final long checksum = buffer.getLong();
+			final ByteBuffer body = buffer.slice();
+			final CRC32 crc = new CRC32();
+			crc.update(body.duplicate());
+			if (crc.getValue() != checksum)
+			{
+				LOGGER.warn("Config snapshot '{}' is corrupted, ignoring it.", path);
+				return snapshot;
+			}
+			
+			final int entryCount = body.getInt();
+			for (int i = 0; i < entryCount; i++)
+			{
+				final String configPath = readString(body);
+				final long size = body.getLong();
+				final long contentChecksum = body.getLong();
+				final int propertyCount = body.getInt();
+				final Map<String, String> properties = new HashMap<>(Math.max(16, (int) (propertyCount / 0.75f) + 1));
+				for (int j = 0; j < propertyCount; j++)
+				{
+					properties.put(readString(body), readString(body));
+				}
+				snapshot._entries.put(configPath, new SnapshotEntry(size, contentChecksum, properties));
+			}
+			
+			LOGGER.info("Restored {} config file(s) from snapshot '{}'.", entryCount, path);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			LOGGER.warn("Failed to read config snapshot '{}', ignoring it.", path, e);
+			snapshot._entries.clear();
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * Gets the properties of a file. Unchanged files are served from the snapshot, the others are parsed and cached.
+	 * @param configPath the properties file
+	 * @return the properties of the file
+	 * @throws IOException
+	 */
+	public ConfigProperties load(Path configPath) throws IOException
+	{
+		// read once, both the checksum and the parsing use the same content
+		final byte[] content = Files.readAllBytes(configPath);
+		final CRC32 crc = new CRC32();
+		crc.update(content, 0, content.length);
+		final long checksum = crc.getValue();
+		final String key = configPath.toAbsolutePath().normalize().toString();
+		
+		final SnapshotEntry entry = _entries.get(key);
+		if ((entry != null) && (entry._size == content.length) && (entry._checksum == checksum))
+		{
+			return new ConfigProperties(new HashMap<>(entry._properties));
+		}
+		
+		// parsed the same way as by ConfigProperties(Path)
+		final Properties parsed = new Properties();
+		parsed.load(new ByteArrayInputStream(content));
+		final ConfigProperties properties = new ConfigProperties(parsed);
+		final Map<String, String> raw = new HashMap<>();
+		properties.entrySet().forEach(e -> raw.put(e.getKey(), e.getValue()));
+		_entries.put(key, new SnapshotEntry(content.length, checksum, raw));
+		_dirty = true;
+		return properties;
+	}
+	
+	/**
+	 * Gets the number of the cached files.
+	 * @return the number of the cached files
+	 */
+	public int size()
+	{
+		return _entries.size();
+	}
+	
+	/**
+	 * Checks whether the cache has been changed since it was read or written.
+	 * @return {@code true} if the snapshot file is outdated, otherwise {@code false}
+	 */
+	public boolean isDirty()
+	{
+		return _dirty;
+	}
+	
+	/**
+	 * Writes the snapshot file, if the cache has been changed. The file is replaced atomically, where the file system supports it.
+	 * @throws IOException
+	 */
+	public synchronized void write() throws IOException
+	{
+		if (!_dirty)
+		{
+			return;
+		}
+		
+		// cleared before the entries are copied, so the changes made during the write are not lost
+		_dirty = false;
+		try
+		{
+			writeFile();
+		}
+		catch (IOException | RuntimeException e)
+		{
+			_dirty = true;
+			throw e;
+		}
+		
+		LOGGER.info("Written {} config file(s) into snapshot '{}'.", _entries.size(), _path);
+	}
+	
+	private void writeFile() throws IOException
+	{
+		final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+		try (DataOutputStream body = new DataOutputStream(bodyBytes))
+		{
+			final Map<String, SnapshotEntry> entries = new HashMap<>(_entries);
+			body.writeInt(entries.size());
+			for (Entry<String, SnapshotEntry> entry : entries.entrySet())
+			{
+				final SnapshotEntry snapshotEntry = entry.getValue();
+				writeString(body, entry.getKey());
+				body.writeLong(snapshotEntry._size);
+				body.writeLong(snapshotEntry._checksum);
+				body.writeInt(snapshotEntry._properties.size());
+				for (Entry<String, String> property : snapshotEntry._properties.entrySet())
+				{
+					writeString(body, property.getKey());
+					writeString(body, property.getValue());
+				}
+			}
+		}
+		
+		final byte[] bodyArray = bodyBytes.toByteArray();
+		final CRC32 crc = new CRC32();
+		crc.update(bodyArray, 0, bodyArray.length);
+		final byte[] content = new byte[HEADER_SIZE + bodyArray.length];
+		ByteBuffer.wrap(content).putInt(MAGIC).putInt(VERSION).putLong(crc.getValue()).put(bodyArray);
+		FileUtil.writeAtomically(_path, content);
+	}
+	
+	private static String readString(ByteBuffer buffer)
+	{
+		final byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	private static void writeString(DataOutputStream out, String value) throws IOException
+	{
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * A cached properties file.
+	 */
+	private static final class SnapshotEntry
+	{
+		private final long _size;
+		private final long _checksum;
+		private final Map<String, String> _properties;
+		
+		SnapshotEntry(long size, long checksum, Map<String, String> properties)
+		{
+			_size = size;
+			_checksum = checksum;
+			_properties = properties;
+		}
+	}
+}
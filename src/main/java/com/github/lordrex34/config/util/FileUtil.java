@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * File helpers of the configuration file generation.
+ * @author lord_rex
+ */
+public final class FileUtil
+{
+	private FileUtil()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Writes a file through a temporary file in the same directory, which then replaces the file atomically, where the file system supports it.<br>
+	 * The readers of the file never see a partially written content.
+	 * @param path the file
+	 * @param content the content of the file
+	 * @throws IOException
+	 */
+	public static void writeAtomically(Path path, byte[] content) throws IOException
+	{
+		final Path absolutePath = path.toAbsolutePath();
+		final Path tempPath = createTempFile(absolutePath);
+		try
+		{
+			Files.write(tempPath, content);
+			replace(tempPath, absolutePath);
+		}
+		finally
+		{
+			Files.deleteIfExists(tempPath);
+		}
+	}
+	
+	/**
+	 * Same as {@link #writeAtomically(Path, byte[])}, but the content is streamed into the temporary file, without building it in memory first.<br>
+	 * If the writer fails, the file is left untouched.
+	 * @param path the file
+	 * @param writer the writer of the content
+	 * @throws IOException
+	 * @throws IllegalAccessException
+	 * @throws InstantiationException
+	 */
+	public static void writeAtomically(Path path, IContentWriter writer) throws IOException, IllegalAccessException, InstantiationException
+	{
+		final Path absolutePath = path.toAbsolutePath();
+		final Path tempPath = createTempFile(absolutePath);
+		try
+		{
+			try (OutputStream out = Files.newOutputStream(tempPath))
+			{
+				writer.write(out);
+			}
+			replace(tempPath, absolutePath);
+		}
+		finally
+		{
+			Files.deleteIfExists(tempPath);
+		}
+	}
+	
+	/**
+	 * Creates the temporary file of a file in the same directory, so it can be moved atomically.<br>
+	 * Unlike {@link Files#createTempFile(Path, String, String, java.nio.file.attribute.FileAttribute...)}, that is readable only by the owner, the file is created with the default permissions of the user (umask).<br>
+	 * The permissions of an existing file are copied, so replacing the file keeps them.
+	 * @param path the absolute path of the file
+	 * @return the temporary file
+	 * @throws IOException
+	 */
+	private static Path createTempFile(Path path) throws IOException
+	{
+		final Path parent = path.getParent();
+		if (parent != null)
+		{
+			Files.createDirectories(parent);
+		}
+		
+		Path tempPath;
+		while (true)
+		{
+			tempPath = path.resolveSibling(path.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+			try
+			{
+				Files.newOutputStream(tempPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+				break;
+			}
+			catch (FileAlreadyExistsException e)
+			{
+				// try another name
+			}
+		}
+		
+		try
+		{
+			if (Files.exists(path) && Files.getFileStore(tempPath).supportsFileAttributeView(PosixFileAttributeView.class))
+			{
+				Files.setPosixFilePermissions(tempPath, Files.getPosixFilePermissions(path));
+			}
+		}
+		catch (IOException | RuntimeException e)
+		{
+			Files.deleteIfExists(tempPath);
+			throw e;
+		}
+		return tempPath;
+	}
+	
+	/**
+	 * Replaces a file by its fully written temporary file, atomically where the file system supports it.
+	 * @param tempPath the temporary file
+	 * @param path the absolute path of the file
+	 * @throws IOException
+	 */
+	private static void replace(Path tempPath, Path path) throws IOException
+	{
+		try
+		{
+			Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e)
+		{
+			Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+	
+	/**
+	 * Checks whether a file exists with exactly the given content. The sizes are compared first, so a changed file is usually detected without reading it.
+	 * @param path the file
+	 * @param content the expected content
+	 * @return {@code true} if the file has the same content, otherwise {@code false}
+	 * @throws IOException
+	 */
+	public static boolean hasContent(Path path, byte[] content) throws IOException
+	{
+		return Files.isRegularFile(path) && (Files.size(path) == content.length) && Arrays.equals(Files.readAllBytes(path), content);
+	}
+	
+	/**
+	 * Reads a stream fully.
+	 * @param is the stream
+	 * @return the content of the stream
+	 * @throws IOException
+	 */
+	public static byte[] readAllBytes(InputStream is) throws IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[8192];
+		int read;
+		while ((read = is.read(buffer)) != -1)
+		{
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * Writes the content of a file into a stream.
+	 */
+	@FunctionalInterface
+	public interface IContentWriter
+	{
+		/**
+		 * Writes the content. The stream is closed by the caller.
+		 * @param out the stream of the file
+		 * @throws IOException
+		 * @throws IllegalAccessException
+		 * @throws InstantiationException
+		 */
+		void write(OutputStream out) throws IOException, IllegalAccessException, InstantiationException;
+	}
+}
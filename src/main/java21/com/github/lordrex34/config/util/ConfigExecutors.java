@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides the executors used by the asynchronous loading.<br>
+ * Java 21 version of this class: the I/O bound part of the loading runs every file on its own virtual thread, while the CPU bound part stays on the given platform executor.
+ * @author lord_rex
+ */
+public final class ConfigExecutors
+{
+	private ConfigExecutors()
+	{
+		// utility class
+	}
+	
+	/**
+	 * Gets the default executor of the I/O bound part of the loading (reading and generating the properties files).
+	 * @param executor the executor of the CPU bound part of the loading
+	 * @return the I/O executor
+	 */
+	public static Executor getIoExecutor(Executor executor)
+	{
+		return VirtualThreadHolder.INSTANCE;
+	}
+	
+	/**
+	 * Checks whether the I/O bound part of the loading runs on virtual threads by default.
+	 * @return {@code true} if virtual threads are used, otherwise {@code false}
+	 */
+	public static boolean isVirtualThreadIoExecutor()
+	{
+		return true;
+	}
+	
+	private static final class VirtualThreadHolder
+	{
+		static final ExecutorService INSTANCE = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("config-io-", 0).factory());
+	}
+}
@@ -28,7 +28,6 @@ import java.lang.reflect.Modifier;
 import org.junit.Before;
 
 import com.github.lordrex34.config.annotation.ConfigClass;
-import com.github.lordrex34.config.util.ConfigPropertyRegistry;
 import com.github.lordrex34.reflection.util.ClassPathUtil;
 
 /**
@@ -63,6 +62,12 @@ public abstract class AbstractConfigTest
 	{
 		for (Class<?> configClass : ClassPathUtil.getAllClassesAnnotatedWith(ClassLoader.getSystemClassLoader(), packageName, ConfigClass.class))
 		{
+			if (configClass.getAnnotation(ConfigClass.class).lazy())
+			{
+				// Setting the fields would initialize the class, the lazy classes are reset by their own tests.
+				continue;
+			}
+			
 			for (Field field : configClass.getDeclaredFields())
 			{
 				if (!Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
@@ -121,7 +126,5 @@ public abstract class AbstractConfigTest
 				}
 			}
 		}
-		
-		ConfigPropertyRegistry.clearAll();
 	}
 }
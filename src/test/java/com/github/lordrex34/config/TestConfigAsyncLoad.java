@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.model.ConfigLoadReport;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigAsyncLoad extends AbstractConfigTest
+{
+	private static final String PACKAGE_NAME = ITestConfigMarker.class.getPackage().getName();
+	private static final String INT_PROPERTY = ConfigAsyncLoadTest.class.getSimpleName() + ".TEST_INT";
+	
+	@Test
+	public void test() throws Exception
+	{
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			final ConfigManager configManager = new ConfigManager();
+			configManager.setExecutor(executor);
+			
+			final CompletableFuture<ConfigClassInfo> classFuture = configManager.getLoadFuture(ConfigAsyncLoadTest.class);
+			final ConfigLoadReport report = configManager.loadAsync(PACKAGE_NAME).get(30, TimeUnit.SECONDS);
+			
+			assertTrue(report.isSuccessful());
+			assertTrue(report.getLoadedClasses().contains(ConfigAsyncLoadTest.class));
+			assertTrue(report.getLoadedClasses().stream().allMatch(configManager::isLoaded));
+			assertSame(ConfigAsyncLoadTest.class, classFuture.get(30, TimeUnit.SECONDS).getConfigClass());
+			assertThat(ConfigAsyncLoadTest.TEST_INT, is(5));
+			
+			System.setProperty(INT_PROPERTY, "7");
+			try
+			{
+				assertTrue(configManager.reloadAsync(PACKAGE_NAME).get(30, TimeUnit.SECONDS).isReloading());
+			}
+			finally
+			{
+				System.clearProperty(INT_PROPERTY);
+			}
+			
+			assertThat(ConfigAsyncLoadTest.TEST_INT, is(7));
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testIoExecutor() throws Exception
+	{
+		final AtomicInteger ioTasks = new AtomicInteger();
+		final ConfigManager configManager = new ConfigManager();
+		configManager.setExecutor(Runnable::run);
+		configManager.setIoExecutor(command ->
+		{
+			ioTasks.incrementAndGet();
+			command.run();
+		});
+		
+		final ConfigLoadReport report = configManager.loadAsync(PACKAGE_NAME).get(30, TimeUnit.SECONDS);
+		assertTrue(report.isSuccessful());
+		assertThat(ioTasks.get(), is(report.getLoadedClasses().size()));
+	}
+	
+	@Test
+	public void testNonBlocking() throws Exception
+	{
+		AbstractConfigTest.clearAll(PACKAGE_NAME);
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+		final ConfigManager configManager = new ConfigManager();
+		configManager.setExecutor(tasks::add);
+		configManager.setIoExecutor(tasks::add);
+		
+		// nothing is loaded on the calling thread, the work waits for the executor
+		final CompletableFuture<ConfigClassInfo> classFuture = configManager.getLoadFuture(ConfigAsyncLoadTest.class);
+		final CompletableFuture<ConfigLoadReport> reportFuture = configManager.loadAsync(PACKAGE_NAME);
+		assertFalse(reportFuture.isDone());
+		assertFalse(classFuture.isDone());
+		assertFalse(configManager.isLoaded(ConfigAsyncLoadTest.class));
+		assertThat(ConfigAsyncLoadTest.TEST_INT, is(0));
+		
+		// the class can be waited for on its own, before the whole load is reported
+		while (!classFuture.isDone())
+		{
+			tasks.poll().run();
+		}
+		assertThat(ConfigAsyncLoadTest.TEST_INT, is(5));
+		
+		Runnable task;
+		while ((task = tasks.poll()) != null)
+		{
+			task.run();
+		}
+		assertTrue(reportFuture.get(30, TimeUnit.SECONDS).isSuccessful());
+	}
+	
+	@ConfigClass(fileName = "async_load_test")
+	public static class ConfigAsyncLoadTest
+	{
+		@ConfigField(name = "TestAsyncInt", value = "5")
+		public static int TEST_INT;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigBackgroundGeneration extends AbstractConfigTest
+{
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final Path configPath = new ConfigClassInfo(ConfigBackgroundGenerationTest.class).getConfigPath();
+		Files.delete(configPath);
+		AbstractConfigTest.clearAll(ITestConfigMarker.class.getPackage().getName());
+		
+		final List<Runnable> writes = new ArrayList<>();
+		final ConfigManager configManager = new ConfigManager();
+		configManager.setBackgroundGeneration(true);
+		configManager.setIoExecutor(writes::add);
+		configManager.load(ITestConfigMarker.class.getPackage().getName());
+		
+		// loaded from the defaults, the file is not written yet
+		assertThat(ConfigBackgroundGenerationTest.TEST_INT, is(12));
+		assertThat(ConfigBackgroundGenerationTest.TEST_STRING, is("Default string."));
+		assertFalse(Files.exists(configPath));
+		assertThat(writes.size(), is(1));
+		assertFalse(configManager.getGenerationFuture().isDone());
+		
+		writes.forEach(Runnable::run);
+		assertTrue(Files.exists(configPath));
+		assertTrue(configManager.getGenerationFuture().isDone());
+		
+		reload();
+		assertThat(ConfigBackgroundGenerationTest.TEST_INT, is(12));
+		assertThat(ConfigBackgroundGenerationTest.TEST_STRING, is("Default string."));
+	}
+	
+	@ConfigClass(fileName = "background_generation_test")
+	public static class ConfigBackgroundGenerationTest
+	{
+		@ConfigField(name = "TestBackgroundInt", value = "12")
+		public static int TEST_INT;
+		
+		@ConfigField(name = "TestBackgroundString", value = "Default string.")
+		public static String TEST_STRING;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.binder.IConfigBinder;
+import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.postloadhooks.IConfigPostLoadFieldHook;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigBinder extends AbstractConfigTest
+{
+	private static final String INT_PROPERTY = ConfigBinderTest.class.getSimpleName() + ".TEST_INT";
+	
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final IConfigBinder binder = new ConfigClassInfo(ConfigBinderTest.class).getBinder();
+		assertThat(binder, is(notNullValue()));
+		assertTrue(binder.isBound("TEST_INT"));
+		assertTrue(binder.isBound("TEST_ENUM"));
+		assertTrue(binder.isBound("TEST_STRING"));
+		
+		// private fields and fields of private types are left to reflection
+		assertFalse(binder.isBound("TEST_PRIVATE_INT"));
+		assertFalse(binder.isBound("TEST_PRIVATE_ENUM"));
+		
+		assertThat(ConfigBinderTest.TEST_INT, is(42));
+		assertThat(ConfigBinderTest.TEST_ENUM, is(BinderTestEnum.SECOND));
+		assertThat(ConfigBinderTest.TEST_PRIVATE_INT, is(43));
+		assertThat(ConfigBinderTest.TEST_PRIVATE_ENUM, is(PrivateBinderTestEnum.SECOND));
+		
+		// the private hook is invoked through the component registry
+		assertThat(ConfigBinderTest.TEST_STRING, is(PrivateBinderTestHook.VALUE));
+		
+		System.setProperty(INT_PROPERTY, "44");
+		try
+		{
+			reload();
+		}
+		finally
+		{
+			System.clearProperty(INT_PROPERTY);
+		}
+		assertThat(ConfigBinderTest.TEST_INT, is(44));
+	}
+	
+	@ConfigClass(fileName = "binder_test")
+	public static class ConfigBinderTest
+	{
+		@ConfigField(name = "TestBinderInt", value = "42")
+		public static int TEST_INT;
+		
+		@ConfigField(name = "TestBinderEnum", value = "SECOND")
+		public static BinderTestEnum TEST_ENUM;
+		
+		@ConfigField(name = "TestBinderString", value = "Before the hook.", postLoadHook = PrivateBinderTestHook.class)
+		public static String TEST_STRING;
+		
+		@ConfigField(name = "TestPrivateInt", value = "43")
+		private static int TEST_PRIVATE_INT;
+		
+		@ConfigField(name = "TestPrivateEnum", value = "SECOND")
+		static PrivateBinderTestEnum TEST_PRIVATE_ENUM;
+	}
+	
+	public enum BinderTestEnum
+	{
+		FIRST,
+		SECOND
+	}
+	
+	private enum PrivateBinderTestEnum
+	{
+		FIRST,
+		SECOND
+	}
+	
+	private static class PrivateBinderTestHook implements IConfigPostLoadFieldHook
+	{
+		static final String VALUE = "After the hook.";
+		
+		@Override
+		public void load(ConfigProperties properties)
+		{
+			ConfigBinderTest.TEST_STRING = VALUE;
+		}
+	}
+}
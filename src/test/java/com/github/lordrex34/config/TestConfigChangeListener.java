@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.changelisteners.ConfigChangeEvent;
+import com.github.lordrex34.config.changelisteners.IConfigChangeListener;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigChangeListener extends AbstractConfigTest
+{
+	private static final String CHANGED_INT_PROPERTY = ConfigChangeListenerTest.class.getSimpleName() + ".TEST_CHANGED_INT";
+	
+	static final List<List<ConfigChangeEvent>> CLASS_BATCHES = new ArrayList<>();
+	static final List<List<ConfigChangeEvent>> FIELD_BATCHES = new ArrayList<>();
+	
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		CLASS_BATCHES.clear();
+		FIELD_BATCHES.clear();
+		
+		final List<List<ConfigChangeEvent>> managerBatches = new ArrayList<>();
+		_configManager.addChangeListener(managerBatches::add, "TestChangedInt");
+		
+		reload();
+		
+		assertTrue(CLASS_BATCHES.isEmpty());
+		assertTrue(FIELD_BATCHES.isEmpty());
+		assertTrue(managerBatches.isEmpty());
+		
+		System.setProperty(CHANGED_INT_PROPERTY, "2");
+		try
+		{
+			reload();
+		}
+		finally
+		{
+			System.clearProperty(CHANGED_INT_PROPERTY);
+		}
+		
+		assertThat(ConfigChangeListenerTest.TEST_CHANGED_INT, is(2));
+		assertThat(CLASS_BATCHES.size(), is(1));
+		assertThat(CLASS_BATCHES.get(0).size(), is(1));
+		assertThat(CLASS_BATCHES.get(0).get(0).getKey(), is("TestChangedInt"));
+		assertThat(CLASS_BATCHES.get(0).get(0).getOldValue(), is(1));
+		assertThat(CLASS_BATCHES.get(0).get(0).getNewValue(), is(2));
+		assertTrue(FIELD_BATCHES.isEmpty());
+		assertThat(managerBatches.size(), is(1));
+	}
+	
+	@ConfigClass(fileName = "change_listener_test", changeListener = ClassChangeListener.class)
+	public static class ConfigChangeListenerTest
+	{
+		@ConfigField(name = "TestChangedInt", value = "1")
+		public static int TEST_CHANGED_INT;
+		
+		@ConfigField(name = "TestUnchangedString", value = "Unchanged", changeListener = FieldChangeListener.class)
+		public static String TEST_UNCHANGED_STRING;
+	}
+	
+	public static final class ClassChangeListener implements IConfigChangeListener
+	{
+		@Override
+		public void onChange(List<ConfigChangeEvent> events)
+		{
+			CLASS_BATCHES.add(events);
+		}
+	}
+	
+	public static final class FieldChangeListener implements IConfigChangeListener
+	{
+		@Override
+		public void onChange(List<ConfigChangeEvent> events)
+		{
+			FIELD_BATCHES.add(events);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.component.ConfigComponentRegistry;
+import com.github.lordrex34.config.component.ConfigComponents;
+import com.github.lordrex34.config.converter.IConfigConverter;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.postloadhooks.IConfigPostLoadClassHook;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigComponents
+{
+	@Test
+	public void testConcurrentGet() throws Exception
+	{
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			final List<Callable<ComponentTest>> tasks = new ArrayList<>();
+			for (int i = 0; i < 64; i++)
+			{
+				tasks.add(() -> ConfigComponents.get(ComponentTest.class));
+			}
+			
+			final ComponentTest component = ConfigComponents.get(ComponentTest.class);
+			for (Future<ComponentTest> future : executor.invokeAll(tasks))
+			{
+				assertSame(component, future.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testRegister()
+	{
+		final ComponentTest reflective = ConfigComponents.get(ComponentTest.class);
+		final ComponentTest registered = new ComponentTest();
+		ConfigComponents.register(ComponentTest.class, registered);
+		try
+		{
+			assertSame(registered, ConfigComponents.get(ComponentTest.class));
+		}
+		finally
+		{
+			ConfigComponents.unregister(ComponentTest.class);
+		}
+		
+		assertNotSame(reflective, ConfigComponents.get(ComponentTest.class));
+		assertNotSame(registered, ConfigComponents.get(ComponentTest.class));
+	}
+	
+	@Test
+	public void testManagerIsolation()
+	{
+		final ConfigManager configManager = new ConfigManager(null);
+		final ConfigManager otherConfigManager = new ConfigManager(null);
+		
+		assertSame(configManager.getComponents().get(ComponentTest.class), configManager.getComponents().get(ComponentTest.class));
+		assertNotSame(configManager.getComponents().get(ComponentTest.class), otherConfigManager.getComponents().get(ComponentTest.class));
+		assertNotSame(ConfigComponents.get(ComponentTest.class), configManager.getComponents().get(ComponentTest.class));
+	}
+	
+	@Test
+	public void testGenerationComponents() throws IllegalAccessException, IOException, InstantiationException
+	{
+		// the defaults are converted by the components of the given registry
+		final ConfigComponentRegistry components = new ConfigComponentRegistry();
+		components.register(PrefixConverter.class, new PrefixConverter("registered-"));
+		assertThat(new ConfigClassInfo(ConfigComponentsTest.class, components).getDefaultProperties().getProperty("TestComponentsString"), is("registered-value"));
+		assertThat(new ConfigClassInfo(ConfigComponentsTest.class).getDefaultProperties().getProperty("TestComponentsString"), is("value"));
+	}
+	
+	public static final class PrefixConverter implements IConfigConverter
+	{
+		private final String _prefix;
+		
+		public PrefixConverter()
+		{
+			this("");
+		}
+		
+		public PrefixConverter(String prefix)
+		{
+			_prefix = prefix;
+		}
+		
+		@Override
+		public Object convertFromString(Field field, Class<?> type, String value)
+		{
+			return value;
+		}
+		
+		@Override
+		public String convertToString(Field field, Class<?> type, Object obj)
+		{
+			return _prefix + obj;
+		}
+	}
+	
+	@ConfigClass(fileName = "components_test")
+	public static class ConfigComponentsTest
+	{
+		@ConfigField(name = "TestComponentsString", value = "value", converter = PrefixConverter.class)
+		public static String TEST_STRING;
+	}
+	
+	public static final class ComponentTest implements IConfigPostLoadClassHook
+	{
+		@Override
+		public void load()
+		{
+			// do nothing
+		}
+	}
+}
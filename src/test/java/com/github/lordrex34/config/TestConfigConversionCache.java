@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.converter.CachingConfigConverter;
+import com.github.lordrex34.config.converter.ConfigConversionCache;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigConversionCache extends AbstractConfigTest
+{
+	@Test
+	public void test()
+	{
+		assertThat(ConfigConversionCacheTest.TEST_DURATION, is(Duration.ofMinutes(5)));
+		assertSame(ConfigConversionCacheTest.TEST_DURATION, ConfigConversionCacheTest.TEST_OTHER_DURATION);
+		assertNotSame(ConfigConversionCacheTest.TEST_DURATION_SET, ConfigConversionCacheTest.TEST_OTHER_DURATION_SET);
+		assertTrue(ConfigConversionCacheTest.TEST_DURATION_SET.contains(ConfigConversionCacheTest.TEST_DURATION));
+		assertTrue(ConfigConversionCache.getInstance().getHitCount() > 0);
+	}
+	
+	@Test
+	public void testReload() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigConversionCache cache = ConfigConversionCache.getInstance();
+		assertThat(cache.get(Integer.class, "reloaded", () -> 1), is(1));
+		assertThat(cache.get(Integer.class, "reloaded", () -> 2), is(1));
+		final long hitCount = cache.getHitCount();
+		
+		// the cache is shared with the other managers, a reload keeps the results and the statistics
+		reload();
+		assertThat(cache.get(Integer.class, "reloaded", () -> 2), is(1));
+		assertTrue(cache.getHitCount() > hitCount);
+		
+		// the reloaded values are served from the cache
+		final Duration duration = ConfigConversionCacheTest.TEST_DURATION;
+		reload();
+		assertSame(duration, ConfigConversionCacheTest.TEST_DURATION);
+		
+		// the address may be resolved differently later
+		final CachingConfigConverter converter = new CachingConfigConverter();
+		assertNotSame(converter.convertFromString(null, InetAddress.class, "127.0.0.1"), converter.convertFromString(null, InetAddress.class, "127.0.0.1"));
+	}
+	
+	@Test
+	public void testEviction()
+	{
+		final ConfigConversionCache cache = new ConfigConversionCache(2);
+		cache.get(Integer.class, "1", () -> 1);
+		cache.get(Integer.class, "2", () -> 2);
+		cache.get(Integer.class, "1", () -> 1);
+		cache.get(Integer.class, "3", () -> 3);
+		
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(3L));
+		assertThat(cache.getEvictionCount(), is(1L));
+		
+		// "2" was the least recently used one
+		cache.get(Integer.class, "1", () -> 1);
+		cache.get(Integer.class, "2", () -> 2);
+		assertThat(cache.getHitCount(), is(2L));
+		assertThat(cache.getMissCount(), is(4L));
+	}
+	
+	@ConfigClass(fileName = "conversion_cache_test")
+	public static class ConfigConversionCacheTest
+	{
+		@ConfigField(name = "TestCachedDuration", value = "5mins", converter = CachingConfigConverter.class)
+		public static Duration TEST_DURATION;
+		
+		@ConfigField(name = "TestOtherDuration", value = "5mins", converter = CachingConfigConverter.class)
+		public static Duration TEST_OTHER_DURATION;
+		
+		@ConfigField(name = "TestDurationSet", value = "5mins,10mins", converter = CachingConfigConverter.class)
+		public static Set<Duration> TEST_DURATION_SET;
+		
+		@ConfigField(name = "TestOtherDurationSet", value = "5mins,10mins", converter = CachingConfigConverter.class)
+		public static Set<Duration> TEST_OTHER_DURATION_SET;
+	}
+}
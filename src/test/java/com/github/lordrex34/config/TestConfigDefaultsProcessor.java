@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.annotation.ConfigGroupBeginning;
+import com.github.lordrex34.config.annotation.ConfigGroupEnding;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.util.ConfigFileFormat;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigDefaultsProcessor extends AbstractConfigTest
+{
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigDefaultsProcessorTest.class);
+		final URL packagedDefaults = configClassInfo.getPackagedDefaults();
+		assertNotNull(packagedDefaults);
+		
+		// the compile-time file is the same as the one rendered at runtime
+		final StringBuilder out = new StringBuilder();
+		configClassInfo.print(out);
+		assertThat(read(packagedDefaults), is(out.toString().replace(ConfigFileFormat.LINE_SEPARATOR, ConfigFileFormat.PACKAGED_LINE_SEPARATOR)));
+		
+		// custom value suppliers are known only at runtime
+		assertThat(new ConfigClassInfo(TestConfigSupplier.ConfigSupplierTest.class).getPackagedDefaults(), is(nullValue()));
+		
+		// the runtime writes the converted value, not the declared one
+		assertThat(new ConfigClassInfo(ConfigDefaultsConvertedTest.class).getPackagedDefaults(), is(nullValue()));
+		
+		// classes sharing the same file have their own defaults
+		assertThat(ConfigFileFormat.getDefaultsResourceName(TestConfig.ConfigTest.class.getName(), TestConfig.ConfigTest.class.getAnnotation(ConfigClass.class)), not(ConfigFileFormat.getDefaultsResourceName(TestMultipleConfigLoad.ConfigTest.class.getName(), TestMultipleConfigLoad.ConfigTest.class.getAnnotation(ConfigClass.class))));
+	}
+	
+	@Test
+	public void testPackagedFile() throws IllegalAccessException, IOException, InstantiationException
+	{
+		// copied from the packaged defaults, with the line separators of the runtime
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigDefaultsProcessorTest.class);
+		configClassInfo.generate();
+		final StringBuilder out = new StringBuilder();
+		configClassInfo.print(out);
+		assertThat(new String(Files.readAllBytes(configClassInfo.getConfigPath()), StandardCharsets.UTF_8), is(out.toString()));
+	}
+	
+	@Test
+	public void testOverriddenFile() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigDefaultsProcessorTest.class);
+		final String packaged = read(configClassInfo.getPackagedDefaults()).replace(ConfigFileFormat.PACKAGED_LINE_SEPARATOR, ConfigFileFormat.LINE_SEPARATOR);
+		
+		// an overriding system property is written by the runtime rendering, the packaged file has the declared value only
+		System.setProperty("ConfigDefaultsProcessorTest.TEST_INT", "7");
+		try
+		{
+			configClassInfo.generate();
+			final String content = new String(Files.readAllBytes(configClassInfo.getConfigPath()), StandardCharsets.UTF_8);
+			assertThat(content.contains("TestDefaultsInt = 7" + ConfigFileFormat.LINE_SEPARATOR), is(true));
+			assertThat(content, not(packaged));
+			assertThat(configClassInfo.generateIfChanged(), is(false));
+		}
+		finally
+		{
+			System.clearProperty("ConfigDefaultsProcessorTest.TEST_INT");
+		}
+		
+		// without the override the packaged file is used again
+		assertThat(configClassInfo.generateIfChanged(), is(true));
+		final String content = new String(Files.readAllBytes(configClassInfo.getConfigPath()), StandardCharsets.UTF_8);
+		assertThat(content, is(packaged));
+		assertThat(content.contains("TestDefaultsInt = -5" + ConfigFileFormat.LINE_SEPARATOR), is(true));
+	}
+	
+	@Test
+	public void testGeneratedFile() throws IllegalAccessException, IOException, InstantiationException
+	{
+		// generated at runtime, streamed directly into the file
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(TestConfigSupplier.ConfigSupplierTest.class);
+		configClassInfo.generate();
+		final StringBuilder out = new StringBuilder();
+		configClassInfo.print(out);
+		final String content = new String(Files.readAllBytes(configClassInfo.getConfigPath()), StandardCharsets.UTF_8);
+		assertThat(content, is(out.toString()));
+		
+		// every line ends with the same separator
+		for (String line : content.split(ConfigFileFormat.LINE_SEPARATOR))
+		{
+			assertFalse(line.contains("\r") || line.contains("\n"));
+		}
+	}
+	
+	private static String read(URL url) throws IOException
+	{
+		try (InputStream is = url.openStream())
+		{
+			final StringBuilder sb = new StringBuilder();
+			final byte[] buffer = new byte[4096];
+			int read;
+			while ((read = is.read(buffer)) != -1)
+			{
+				sb.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+			}
+			return sb.toString();
+		}
+	}
+	
+	@ConfigClass(fileName = "defaults_processor_test", comment = "Packaged defaults.")
+	public static class ConfigDefaultsProcessorTest
+	{
+		@ConfigGroupBeginning(name = "Group", comment = "Group comment.")
+		@ConfigField(name = "TestDefaultsEnum", value = "TEST_1", comment = "Enum comment.")
+		public static EnumForConfig TEST_ENUM;
+		
+		@ConfigField(name = "TestDefaultsEnumArray", value = "TEST_1,TEST_2")
+		public static EnumForConfig[] TEST_ENUM_ARRAY;
+		
+		@ConfigField(name = "TestDefaultsInt", value = "-5")
+		public static int TEST_INT;
+		
+		@ConfigField(name = "TestDefaultsStringArray", value = "a,b")
+		public static String[] TEST_STRING_ARRAY;
+		
+		@ConfigGroupEnding(name = "Group")
+		@ConfigField(name = "TestOnlyComment", value = "", comment = "Just a comment.", onlyComment = true)
+		public static String TEST_ONLY_COMMENT;
+	}
+	
+	@ConfigClass(fileName = "defaults_converted_test")
+	public static class ConfigDefaultsConvertedTest
+	{
+		@ConfigField(name = "TestDefaultsDouble", value = "1")
+		public static double TEST_DOUBLE;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.postloadhooks.IConfigPostLoadClassHook;
+import com.github.lordrex34.config.util.ConfigDependencyGraph;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigDependencies extends AbstractConfigTest
+{
+	@Test
+	public void test() throws Exception
+	{
+		assertThat(ConfigDependentTest.TEST_DERIVED_INT, is(84));
+		
+		AbstractConfigTest.clearAll(ITestConfigMarker.class.getPackage().getName());
+		final ConfigManager configManager = new ConfigManager();
+		assertTrue(configManager.loadAsync(ITestConfigMarker.class.getPackage().getName()).get(30, TimeUnit.SECONDS).isSuccessful());
+		assertThat(ConfigDependentTest.TEST_DERIVED_INT, is(84));
+	}
+	
+	@Test
+	public void testWaves()
+	{
+		final ConfigClassInfo dependency = new ConfigClassInfo(ConfigDependencyTest.class);
+		final ConfigClassInfo dependent = new ConfigClassInfo(ConfigDependentTest.class);
+		final ConfigClassInfo other = new ConfigClassInfo(TestConfigAsyncLoad.ConfigAsyncLoadTest.class);
+		
+		final List<List<ConfigClassInfo>> waves = ConfigDependencyGraph.sortInWaves(Arrays.asList(dependent, other, dependency));
+		assertThat(waves.size(), is(2));
+		assertThat(waves.get(0), is(Arrays.asList(dependency, other)));
+		assertThat(waves.get(1), is(Arrays.asList(dependent)));
+	}
+	
+	@ConfigClass(fileName = "dependency_test", priority = 10)
+	public static class ConfigDependencyTest
+	{
+		@ConfigField(name = "TestBaseInt", value = "42")
+		public static int TEST_BASE_INT;
+	}
+	
+	@ConfigClass(fileName = "dependent_test", dependsOn = ConfigDependencyTest.class, postLoadHook = ConfigDependentHook.class)
+	public static class ConfigDependentTest
+	{
+		@ConfigField(name = "TestDerivedInt", value = "0")
+		public static int TEST_DERIVED_INT;
+	}
+	
+	public static class ConfigDependentHook implements IConfigPostLoadClassHook
+	{
+		@Override
+		public void load()
+		{
+			ConfigDependentTest.TEST_DERIVED_INT = ConfigDependencyTest.TEST_BASE_INT * 2;
+		}
+	}
+}
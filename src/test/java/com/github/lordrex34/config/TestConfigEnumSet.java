@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.lang.EnumMask;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigEnumSet extends AbstractConfigTest
+{
+	@Test
+	public void test()
+	{
+		assertThat(ConfigEnumSetTest.TEST_ENUM_SET, is(EnumSet.of(EnumForConfig.TEST_1, EnumForConfig.TEST_3)));
+		assertThat(ConfigEnumSetTest.TEST_ALL_ENUM_SET, is(EnumSet.allOf(EnumForConfig.class)));
+		
+		assertThat(ConfigEnumSetTest.TEST_ENUM_MASK.getBits(), is(0b110L));
+		assertTrue(ConfigEnumSetTest.TEST_ENUM_MASK.contains(EnumForConfig.TEST_2));
+		assertFalse(ConfigEnumSetTest.TEST_ENUM_MASK.contains(EnumForConfig.TEST_1));
+		assertThat(ConfigEnumSetTest.TEST_ENUM_MASK, is(EnumSet.of(EnumForConfig.TEST_2, EnumForConfig.TEST_3)));
+		assertThat(ConfigEnumSetTest.TEST_ALL_ENUM_MASK, is(EnumMask.allOf(EnumForConfig.class)));
+		assertTrue(ConfigEnumSetTest.TEST_EMPTY_ENUM_MASK.isEmpty());
+	}
+	
+	@Test
+	public void testReload() throws Exception
+	{
+		System.setProperty(ConfigEnumSetTest.class.getSimpleName() + ".TEST_ENUM_MASK", "*");
+		System.setProperty(ConfigEnumSetTest.class.getSimpleName() + ".TEST_ENUM_SET", "");
+		try
+		{
+			reload();
+			assertThat(ConfigEnumSetTest.TEST_ENUM_MASK.size(), is(3));
+			assertTrue(ConfigEnumSetTest.TEST_ENUM_SET.isEmpty());
+		}
+		finally
+		{
+			System.clearProperty(ConfigEnumSetTest.class.getSimpleName() + ".TEST_ENUM_MASK");
+			System.clearProperty(ConfigEnumSetTest.class.getSimpleName() + ".TEST_ENUM_SET");
+		}
+	}
+	
+	@Test
+	public void testEnumMask()
+	{
+		final EnumMask<EnumForConfig> mask = EnumMask.of(EnumForConfig.class, Arrays.asList(EnumForConfig.TEST_3, EnumForConfig.TEST_1));
+		assertThat(mask.toEnumSet(), is(EnumSet.of(EnumForConfig.TEST_1, EnumForConfig.TEST_3)));
+		assertThat(mask.toArray(), is(new Object[]
+		{
+			EnumForConfig.TEST_1,
+			EnumForConfig.TEST_3
+		}));
+		assertFalse(mask.contains((Object) "TEST_1"));
+		assertFalse(mask.contains((EnumForConfig) null));
+		assertThat(mask.hashCode(), is(mask.toEnumSet().hashCode()));
+		
+		try
+		{
+			mask.add(EnumForConfig.TEST_2);
+			fail();
+		}
+		catch (UnsupportedOperationException e)
+		{
+			// expected
+		}
+	}
+	
+	@ConfigClass(fileName = "enum_set_test")
+	public static class ConfigEnumSetTest
+	{
+		@ConfigField(name = "TestPartialEnumSet", value = "TEST_3,TEST_1")
+		public static EnumSet<EnumForConfig> TEST_ENUM_SET;
+		
+		@ConfigField(name = "TestAllEnumSet", value = "*")
+		public static EnumSet<EnumForConfig> TEST_ALL_ENUM_SET;
+		
+		@ConfigField(name = "TestEnumMask", value = "TEST_2,test_3", ignoreCase = true)
+		public static EnumMask<EnumForConfig> TEST_ENUM_MASK;
+		
+		@ConfigField(name = "TestAllEnumMask", value = "*")
+		public static EnumMask<EnumForConfig> TEST_ALL_ENUM_MASK;
+		
+		@ConfigField(name = "TestEmptyEnumMask", value = "")
+		public static EnumMask<EnumForConfig> TEST_EMPTY_ENUM_MASK;
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.generator.AbstractConfigGenerator;
+import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.supplier.IConfigValueSupplier;
+import com.github.lordrex34.config.util.FileUtil;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigGenerator extends AbstractConfigTest
+{
+	private static final String PACKAGE_NAME = ITestConfigMarker.class.getPackage().getName();
+	
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			// the files of the lazy classes are missing yet, then everything is up to date
+			AbstractConfigGenerator.generateAll(PACKAGE_NAME, executor);
+			assertThat(AbstractConfigGenerator.generateAll(PACKAGE_NAME, executor), is(0));
+			
+			final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigGeneratorTest.class);
+			final Path configPath = configClassInfo.getConfigPath();
+			final byte[] content = Files.readAllBytes(configPath);
+			final FileTime lastModified = FileTime.fromMillis(1_000_000_000_000L);
+			Files.setLastModifiedTime(configPath, lastModified);
+			
+			// an unchanged file is not touched
+			assertThat(configClassInfo.generateIfChanged(), is(false));
+			assertThat(Files.getLastModifiedTime(configPath), is(lastModified));
+			
+			// a changed file is written again
+			Files.write(configPath, "TestGeneratorInt = 2".getBytes(StandardCharsets.ISO_8859_1));
+			assertThat(AbstractConfigGenerator.generateAll(PACKAGE_NAME, executor), is(1));
+			assertThat(Files.readAllBytes(configPath), is(content));
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testFailedGeneration() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigFailingGeneratorTest.class);
+		final Path configPath = configClassInfo.getConfigPath();
+		configClassInfo.generate();
+		final byte[] content = Files.readAllBytes(configPath);
+		
+		// the second field fails after the first one is already written into the temporary file
+		FailingConfigValueSupplier.failing = true;
+		try
+		{
+			configClassInfo.generate();
+			fail("The generation is expected to fail.");
+		}
+		catch (IllegalStateException e)
+		{
+			// expected
+		}
+		finally
+		{
+			FailingConfigValueSupplier.failing = false;
+		}
+		
+		// the previous file is kept as it was, and no temporary file is left behind
+		assertThat(Files.readAllBytes(configPath), is(content));
+		try (Stream<Path> files = Files.list(configPath.getParent()))
+		{
+			assertThat(files.anyMatch(file -> file.getFileName().toString().endsWith(".tmp")), is(false));
+		}
+	}
+	
+	@Test
+	public void testPermissions() throws IOException
+	{
+		final Path directory = Files.createTempDirectory("permissions_test");
+		Assume.assumeTrue(Files.getFileStore(directory).supportsFileAttributeView(PosixFileAttributeView.class));
+		try
+		{
+			// a new file gets the default permissions of the user, like any other created file
+			final Path reference = Files.createFile(directory.resolve("reference.properties"));
+			final Path path = directory.resolve("permissions.properties");
+			FileUtil.writeAtomically(path, "TestPermissions = 1".getBytes(StandardCharsets.ISO_8859_1));
+			assertThat(Files.getPosixFilePermissions(path), is(Files.getPosixFilePermissions(reference)));
+			
+			// the permissions of an existing file are kept when it is replaced
+			final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+			Files.setPosixFilePermissions(path, permissions);
+			FileUtil.writeAtomically(path, "TestPermissions = 2".getBytes(StandardCharsets.ISO_8859_1));
+			assertThat(Files.getPosixFilePermissions(path), is(permissions));
+			assertThat(new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1), is("TestPermissions = 2"));
+		}
+		finally
+		{
+			try (Stream<Path> files = Files.list(directory))
+			{
+				for (Path file : (Iterable<Path>) files::iterator)
+				{
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+	}
+	
+	@ConfigClass(fileName = "generator_test")
+	public static class ConfigGeneratorTest
+	{
+		@ConfigField(name = "TestGeneratorInt", value = "1")
+		public static int TEST_INT;
+	}
+	
+	@ConfigClass(fileName = "failing_generator_test")
+	public static class ConfigFailingGeneratorTest
+	{
+		@ConfigField(name = "TestFailingGeneratorFirst", value = "1")
+		public static int TEST_FIRST;
+		
+		@ConfigField(name = "TestFailingGeneratorSecond", value = "2", valueSupplier = FailingConfigValueSupplier.class)
+		public static String TEST_SECOND;
+	}
+	
+	public static final class FailingConfigValueSupplier implements IConfigValueSupplier<String>
+	{
+		static volatile boolean failing;
+		
+		@Override
+		public String supply(Class<?> clazz, Field field, ConfigField configField, ConfigProperties properties, boolean generating)
+		{
+			if (failing)
+			{
+				throw new IllegalStateException("Failing on purpose.");
+			}
+			return configField.value();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.converter.ImmutableSetConfigConverter;
+import com.github.lordrex34.config.lang.ImmutableSets;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigImmutableSet extends AbstractConfigTest
+{
+	@Test
+	public void test()
+	{
+		assertThat(ConfigImmutableSetTest.TEST_STRING_SET, is(new HashSet<>(Arrays.asList("This", "is", "a", "string", "set"))));
+		assertTrue(ConfigImmutableSetTest.TEST_STRING_SET.contains("string"));
+		assertFalse(ConfigImmutableSetTest.TEST_STRING_SET.contains("test"));
+		assertFalse(ConfigImmutableSetTest.TEST_STRING_SET.contains(1));
+		
+		// comparable elements are iterated in their natural order, like in a TreeSet
+		assertArrayEquals(new Integer[]
+		{
+			1,
+			2,
+			3
+		}, ConfigImmutableSetTest.TEST_INT_SET.toArray());
+		
+		assertThat(ConfigImmutableSetTest.TEST_ENUM_SET, is(EnumSet.of(EnumForConfig.TEST_1, EnumForConfig.TEST_3)));
+		assertTrue(ConfigImmutableSetTest.TEST_EMPTY_SET.isEmpty());
+		
+		for (Set<?> set : Arrays.asList(ConfigImmutableSetTest.TEST_STRING_SET, ConfigImmutableSetTest.TEST_INT_SET, ConfigImmutableSetTest.TEST_ENUM_SET, ConfigImmutableSetTest.TEST_EMPTY_SET))
+		{
+			try
+			{
+				set.clear();
+				if (!set.isEmpty())
+				{
+					fail();
+				}
+			}
+			catch (UnsupportedOperationException e)
+			{
+				// expected
+			}
+		}
+		
+		assertThat(ConfigImmutableSetTest.TEST_STRING_SET.size(), is(5));
+	}
+	
+	@Test
+	public void testCopyOf()
+	{
+		final List<Integer> numbers = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			numbers.add(i * 7);
+			numbers.add(i * 7);
+		}
+		
+		// small and large sets, with and without natural order
+		for (int size : new int[]
+		{
+			1,
+			ImmutableSets.SORTED_ARRAY_MAX_SIZE,
+			ImmutableSets.SORTED_ARRAY_MAX_SIZE + 1,
+			numbers.size()
+		})
+		{
+			final List<Integer> elements = numbers.subList(0, size);
+			final Set<Integer> set = ImmutableSets.copyOf(elements);
+			assertThat(set, is(new HashSet<>(elements)));
+			assertArrayEquals(new TreeSet<>(elements).toArray(), set.toArray());
+			for (int i = -1; i < 800; i++)
+			{
+				assertThat(set.contains(i), is(elements.contains(i)));
+			}
+			assertFalse(set.contains(7L));
+			assertFalse(set.contains(null));
+			
+			final List<Object> mixed = new ArrayList<>(elements);
+			mixed.add("7");
+			final Set<Object> mixedSet = ImmutableSets.copyOf(mixed);
+			assertThat(mixedSet, is(new HashSet<>(mixed)));
+			assertThat(mixedSet.size(), is(new HashSet<>(mixed).size()));
+			assertTrue(mixedSet.contains("7"));
+			assertFalse(mixedSet.contains("8"));
+		}
+		
+		assertThat(ImmutableSets.copyOf(Arrays.asList("a", null)), is(new HashSet<>(Arrays.asList("a", null))));
+		assertThat(ImmutableSets.copyOf(Collections.emptyList()), is(Collections.emptySet()));
+	}
+	
+	@Test
+	public void testInconsistentNaturalOrder()
+	{
+		// 1.0 and 1.00 are equal by their natural order, but not by equals, the result must not depend on the size of the set
+		for (int size : new int[]
+		{
+			1,
+			ImmutableSets.SORTED_ARRAY_MAX_SIZE,
+			ImmutableSets.SORTED_ARRAY_MAX_SIZE + 1
+		})
+		{
+			final List<BigDecimal> elements = new ArrayList<>();
+			elements.add(new BigDecimal("1.0"));
+			for (int i = 1; i < size; i++)
+			{
+				elements.add(BigDecimal.valueOf(i + 1));
+			}
+			elements.add(new BigDecimal("1.00"));
+			
+			final Set<BigDecimal> set = ImmutableSets.copyOf(elements);
+			assertThat(set, is(new HashSet<>(elements)));
+			assertThat(set.size(), is(size + 1));
+			assertTrue(set.contains(new BigDecimal("1.0")));
+			assertTrue(set.contains(new BigDecimal("1.00")));
+			assertFalse(set.contains(new BigDecimal("1")));
+			
+			// iterated in the original order
+			assertArrayEquals(elements.toArray(), set.toArray());
+		}
+	}
+	
+	@ConfigClass(fileName = "immutable_set_test")
+	public static class ConfigImmutableSetTest
+	{
+		@ConfigField(name = "TestImmutableStringSet", value = "This,is,a,string,set,string", converter = ImmutableSetConfigConverter.class)
+		public static Set<String> TEST_STRING_SET;
+		
+		@ConfigField(name = "TestImmutableIntSet", value = "3,1,2", converter = ImmutableSetConfigConverter.class)
+		public static Set<Integer> TEST_INT_SET;
+		
+		@ConfigField(name = "TestImmutableEnumSet", value = "TEST_3,TEST_1", converter = ImmutableSetConfigConverter.class)
+		public static Set<EnumForConfig> TEST_ENUM_SET;
+		
+		@ConfigField(name = "TestEmptySet", value = "", converter = ImmutableSetConfigConverter.class)
+		public static Set<String> TEST_EMPTY_SET;
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.converter.IntSetConfigConverter;
+import com.github.lordrex34.config.lang.FieldParser.FieldParserException;
+import com.github.lordrex34.config.lang.IntSet;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigIntSet extends AbstractConfigTest
+{
+	@Test
+	public void test()
+	{
+		assertThat(ConfigIntSetTest.TEST_INT_SET.size(), is(104));
+		assertTrue(ConfigIntSetTest.TEST_INT_SET.contains(-5));
+		assertTrue(ConfigIntSetTest.TEST_INT_SET.contains(150));
+		assertFalse(ConfigIntSetTest.TEST_INT_SET.contains(99));
+		assertThat(ConfigIntSetTest.TEST_BOXED_INT_SET, is(new HashSet<>(Arrays.asList(1, 2, 3, 10))));
+		assertArrayEquals(new int[]
+		{
+			1,
+			3,
+			4,
+			5,
+			16
+		}, ConfigIntSetTest.TEST_INT_ARRAY);
+		assertTrue(ConfigIntSetTest.TEST_EMPTY_INT_SET.isEmpty());
+		
+		assertThat(IntSetConfigConverter.getInstance().convertToString(null, IntSet.class, ConfigIntSetTest.TEST_INT_SET), is("-5,1,5,100-200"));
+		assertThat(IntSetConfigConverter.getInstance().convertToString(null, int[].class, ConfigIntSetTest.TEST_INT_ARRAY), is("1,3-5,16"));
+		assertThat(IntSetConfigConverter.getInstance().convertToString(null, Set.class, ConfigIntSetTest.TEST_BOXED_INT_SET), is("1-3,10"));
+		
+		for (String value : new String[]
+		{
+			"1,a",
+			"5-1",
+			"1-",
+			"1-2-3",
+		})
+		{
+			try
+			{
+				IntSetConfigConverter.getInstance().convertFromString(null, IntSet.class, value);
+				fail(value);
+			}
+			catch (FieldParserException e)
+			{
+				// expected
+			}
+		}
+	}
+	
+	@Test
+	public void testRepresentations()
+	{
+		final int[][] valueSets =
+		{
+			{},
+			{
+				0
+			},
+			{
+				Integer.MIN_VALUE,
+				Integer.MAX_VALUE
+			},
+			{
+				5,
+				1,
+				3,
+				3,
+				-7
+			},
+			{
+				1000000,
+				1,
+				500000
+			},
+		};
+		
+		for (int[] values : valueSets)
+		{
+			final IntSet set = IntSet.of(values);
+			final TreeSet<Integer> expected = new TreeSet<>();
+			Arrays.stream(values).forEach(expected::add);
+			assertThat(set, is(expected));
+			assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toIntArray());
+			assertArrayEquals(expected.toArray(), set.toArray());
+			for (int value : values)
+			{
+				assertTrue(set.contains(value));
+				assertFalse(set.contains(value + 2000000));
+			}
+			assertFalse(set.contains(Long.valueOf(1)));
+		}
+		
+		// both dense and sparse ranges
+		final IntSet dense = new IntSet.Builder().addRange(1, 50000).addRange(40000, 60000).add(70000).build();
+		assertThat(dense.size(), is(60001));
+		assertTrue(dense.contains(60000));
+		assertFalse(dense.contains(60001));
+		assertTrue(dense.contains(70000));
+		
+		final IntSet sparse = new IntSet.Builder().addRange(Integer.MIN_VALUE, Integer.MIN_VALUE + 2).addRange(Integer.MAX_VALUE - 2, Integer.MAX_VALUE).build();
+		assertThat(sparse.size(), is(6));
+		assertTrue(sparse.contains(Integer.MAX_VALUE));
+		assertFalse(sparse.contains(0));
+		
+		// wide ranges are neither expanded nor stored as a bitmap
+		final IntSet wide = (IntSet) IntSetConfigConverter.getInstance().convertFromString(null, IntSet.class, "0-2000000000,-10-5");
+		assertThat(wide.size(), is(2000000011));
+		assertTrue(wide.contains(-10));
+		assertTrue(wide.contains(2000000000));
+		assertFalse(wide.contains(-11));
+		assertFalse(wide.contains(2000000001));
+		assertThat(IntSetConfigConverter.getInstance().convertToString(null, IntSet.class, wide), is("-10-2000000000"));
+		
+		final IntSet gaps = new IntSet.Builder().addRange(-1000000000, -5).add(0).addRange(10, 11).addRange(100, 1000000000).build();
+		assertTrue(gaps.contains(-1000000000));
+		assertFalse(gaps.contains(-1000000001));
+		assertFalse(gaps.contains(-4));
+		assertTrue(gaps.contains(0));
+		assertFalse(gaps.contains(12));
+		assertTrue(gaps.contains(100));
+		assertArrayEquals(new int[]
+		{
+			-1000000000,
+			-5,
+			0,
+			0,
+			10,
+			11,
+			100,
+			1000000000
+		}, gaps.toRanges());
+		assertThat(IntSetConfigConverter.getInstance().convertToString(null, IntSet.class, gaps), is("-1000000000--5,0,10,11,100-1000000000"));
+		
+		final Iterator<Integer> iterator = new IntSet.Builder().addRange(Integer.MAX_VALUE - 1, Integer.MAX_VALUE).addRange(-3, -2).build().iterator();
+		assertThat(iterator.next(), is(-3));
+		assertThat(iterator.next(), is(-2));
+		assertThat(iterator.next(), is(Integer.MAX_VALUE - 1));
+		assertThat(iterator.next(), is(Integer.MAX_VALUE));
+		assertFalse(iterator.hasNext());
+	}
+	
+	@ConfigClass(fileName = "int_set_test")
+	public static class ConfigIntSetTest
+	{
+		@ConfigField(name = "TestIntSetRanges", value = "100-200, 1,5 ,-5,150")
+		public static IntSet TEST_INT_SET;
+		
+		@ConfigField(name = "TestBoxedIntSet", value = "10,1-3", converter = IntSetConfigConverter.class)
+		public static Set<Integer> TEST_BOXED_INT_SET;
+		
+		@ConfigField(name = "TestIntSetArray", value = "16,3-5,1,4", converter = IntSetConfigConverter.class)
+		public static int[] TEST_INT_ARRAY;
+		
+		@ConfigField(name = "TestEmptyIntSet", value = "")
+		public static IntSet TEST_EMPTY_INT_SET;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigLazy extends AbstractConfigTest
+{
+	/** Counted outside of the lazy class, reading it doesn't initialize that class. */
+	static final AtomicInteger INITIALIZATIONS = new AtomicInteger();
+	
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigHandle handle = _configManager.getHandle(ConfigLazyTest.class);
+		assertFalse(handle.isLoaded());
+		assertThat(ConfigLazyTest.TEST_STRING, is(nullValue()));
+		
+		// a reload doesn't load the unused lazy classes either
+		reload();
+		assertFalse(handle.isLoaded());
+		assertThat(ConfigLazyTest.TEST_STRING, is(nullValue()));
+		
+		assertThat(handle.get(() -> ConfigLazyTest.TEST_STRING), is("Lazy string."));
+		assertTrue(handle.isLoaded());
+		assertTrue(_configManager.getLoadFuture(ConfigLazyTest.class).isDone());
+		
+		// once used, the class is reloaded like the others
+		ConfigLazyTest.TEST_STRING = null;
+		reload();
+		assertThat(ConfigLazyTest.TEST_STRING, is("Lazy string."));
+	}
+	
+	@Test
+	public void testLazyLoading() throws IllegalAccessException, IOException, InstantiationException
+	{
+		AbstractConfigTest.clearAll(ITestConfigMarker.class.getPackage().getName());
+		final ConfigManager configManager = new ConfigManager();
+		configManager.setLazyLoading(true);
+		configManager.load(ITestConfigMarker.class.getPackage().getName());
+		
+		assertFalse(configManager.isLoaded(TestConfigAsyncLoad.ConfigAsyncLoadTest.class));
+		assertThat(TestConfigAsyncLoad.ConfigAsyncLoadTest.TEST_INT, is(0));
+		
+		configManager.ensureLoaded(TestConfigDependencies.ConfigDependentTest.class);
+		assertTrue(configManager.isLoaded(TestConfigDependencies.ConfigDependencyTest.class));
+		assertThat(TestConfigDependencies.ConfigDependentTest.TEST_DERIVED_INT, is(84));
+	}
+	
+	@Test
+	public void testStaticInitializer() throws IllegalAccessException, IOException, InstantiationException
+	{
+		// the metadata is registered without initializing the class
+		assertThat(INITIALIZATIONS.get(), is(0));
+		reload();
+		assertThat(INITIALIZATIONS.get(), is(0));
+		assertFalse(_configManager.isLoaded(ConfigLazyInitializerTest.class));
+		
+		_configManager.ensureLoaded(ConfigLazyInitializerTest.class);
+		assertTrue(_configManager.isLoaded(ConfigLazyInitializerTest.class));
+		assertThat(INITIALIZATIONS.get(), is(1));
+		assertThat(ConfigLazyInitializerTest.TEST_INT, is(3));
+	}
+	
+	@ConfigClass(fileName = "lazy_test", lazy = true)
+	public static class ConfigLazyTest
+	{
+		@ConfigField(name = "TestLazyString", value = "Lazy string.")
+		public static String TEST_STRING;
+	}
+	
+	@ConfigClass(fileName = "lazy_initializer_test", lazy = true)
+	public static class ConfigLazyInitializerTest
+	{
+		@ConfigField(name = "TestLazyInitializerInt", value = "3")
+		public static int TEST_INT;
+		
+		static
+		{
+			INITIALIZATIONS.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigMerge extends AbstractConfigTest
+{
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigMergeTest.class);
+		final Path configPath = configClassInfo.getConfigPath();
+		
+		// an edited file of an older version, without the second property and without a trailing line break
+		final byte[] edited = "# edited by hand\r\nTestFirst = 10".getBytes(StandardCharsets.ISO_8859_1);
+		Files.write(configPath, edited);
+		try
+		{
+			assertThat(configClassInfo.mergeMissing(), is(1));
+			
+			final byte[] merged = Files.readAllBytes(configPath);
+			assertArrayEquals(edited, Arrays.copyOf(merged, edited.length));
+			assertTrue(new String(merged, StandardCharsets.UTF_8).contains("# The second property."));
+			
+			final ConfigProperties properties = new ConfigProperties(configPath);
+			assertThat(properties.getProperty("TestFirst"), is("10"));
+			assertThat(properties.getProperty("TestSecond"), is("2"));
+			
+			// nothing is missing anymore
+			assertThat(configClassInfo.mergeMissing(), is(0));
+			assertArrayEquals(merged, Files.readAllBytes(configPath));
+			
+			reload();
+			assertThat(ConfigMergeTest.TEST_FIRST, is(10));
+			assertThat(ConfigMergeTest.TEST_SECOND, is(2));
+		}
+		finally
+		{
+			Files.delete(configPath);
+		}
+	}
+	
+	@Test
+	public void testUtf8() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final ConfigClassInfo configClassInfo = new ConfigClassInfo(ConfigMergeUtf8Test.class);
+		final Path configPath = configClassInfo.getConfigPath();
+		
+		// the key is read back the same way as it was generated, so it is not appended again
+		final byte[] edited = "TestMerge\u00DCmlaut = 5".getBytes(StandardCharsets.UTF_8);
+		Files.write(configPath, edited);
+		try
+		{
+			assertThat(configClassInfo.mergeMissing(), is(0));
+			assertArrayEquals(edited, Files.readAllBytes(configPath));
+		}
+		finally
+		{
+			Files.delete(configPath);
+		}
+	}
+	
+	@ConfigClass(fileName = "merge_test")
+	public static class ConfigMergeTest
+	{
+		@ConfigField(name = "TestFirst", value = "1")
+		public static int TEST_FIRST;
+		
+		@ConfigField(name = "TestSecond", value = "2", comment = "The second property.")
+		public static int TEST_SECOND;
+	}
+	
+	@ConfigClass(fileName = "merge_utf8_test")
+	public static class ConfigMergeUtf8Test
+	{
+		@ConfigField(name = "TestMerge\u00DCmlaut", value = "1")
+		public static int TEST_UMLAUT;
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.lang.ConfigDiagnostics;
+import com.github.lordrex34.config.lang.ConfigDiagnostics.Reason;
+import com.github.lordrex34.config.lang.ConfigProperties;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigProperties extends AbstractConfigTest
+{
+	@Test
+	public void testTrimmedValues()
+	{
+		final Properties properties = new Properties();
+		properties.setProperty("Trimmed", "  value with spaces \t");
+		properties.setProperty("Plain", "value");
+		
+		final ConfigProperties configProperties = new ConfigProperties(properties);
+		assertThat(configProperties.getProperty("Trimmed"), is("value with spaces"));
+		
+		// the stored value is returned without a copy
+		assertSame(configProperties.getProperty("Trimmed"), configProperties.getProperty("Trimmed"));
+		assertThat(configProperties.entrySet().stream().filter(e -> e.getKey().equals("Trimmed")).findFirst().get().getValue(), is("value with spaces"));
+	}
+	
+	@Test
+	public void testCompactStorage()
+	{
+		final Properties properties = new Properties();
+		for (int i = 0; i < 1000; i++)
+		{
+			properties.setProperty("Key" + i, String.valueOf(i));
+		}
+		
+		final ConfigProperties configProperties = new ConfigProperties(properties);
+		assertThat(configProperties.size(), is(1000));
+		for (int i = 0; i < 1000; i++)
+		{
+			assertThat(configProperties.getInt("Key" + i, -1), is(i));
+		}
+		assertFalse(configProperties.containsKey("Key1000"));
+		assertThat(configProperties.getProperty("Key1000"), is(nullValue()));
+		
+		final Map<String, String> entries = new HashMap<>();
+		for (Entry<String, String> entry : configProperties.entrySet())
+		{
+			entries.put(entry.getKey(), entry.getValue());
+		}
+		assertThat(entries.size(), is(1000));
+		assertThat(entries.get("Key500"), is("500"));
+		
+		// still modifiable after the compaction
+		configProperties.setProperty("Key1000", " 1000 ");
+		configProperties.setProperty("Key0", "zero");
+		assertThat(configProperties.getProperty("Key1000"), is("1000"));
+		assertThat(configProperties.getProperty("Key0"), is("zero"));
+		assertThat(configProperties.size(), is(1001));
+		
+		configProperties.compact();
+		assertThat(configProperties.getProperty("Key999"), is("999"));
+		configProperties.clear();
+		assertThat(configProperties.size(), is(0));
+		assertTrue(configProperties.entrySet().isEmpty());
+	}
+	
+	@Test
+	public void testParsedValues()
+	{
+		final ConfigProperties configProperties = new ConfigProperties();
+		configProperties.setProperty("Number", "42");
+		assertThat(configProperties.getInt("Number", -1), is(42));
+		assertThat(configProperties.getInt("Number", -1), is(42));
+		assertThat(configProperties.getLong("Number", -1), is(42L));
+		assertThat(configProperties.getByte("Number", (byte) -1), is((byte) 42));
+		assertThat(configProperties.getDouble("Number", -1), is(42.0));
+		
+		// the cached values are dropped by the modifications
+		configProperties.setProperty("Number", "300");
+		assertThat(configProperties.getInt("Number", -1), is(300));
+		assertThat(configProperties.getShort("Number", (short) -1), is((short) 300));
+		assertThat(configProperties.getByte("Number", (byte) -1), is((byte) -1));
+		
+		configProperties.setProperty("Number", "1.5");
+		assertThat(configProperties.getInt("Number", -1), is(-1));
+		assertThat(configProperties.getFloat("Number", -1), is(1.5f));
+		assertThat(configProperties.getDouble("Number", -1), is(1.5));
+		
+		configProperties.clear();
+		assertThat(configProperties.getDouble("Number", -1), is(-1.0));
+		
+		// the values of a wrapped map may change outside, they are validated on use
+		final Map<String, String> map = new HashMap<>();
+		map.put("Number", "1");
+		final ConfigProperties wrapped = new ConfigProperties(map);
+		assertThat(wrapped.getInt("Number", -1), is(1));
+		map.put("Number", "2");
+		assertThat(wrapped.getInt("Number", -1), is(2));
+	}
+	
+	@Test
+	public void testDiagnostics()
+	{
+		final ConfigDiagnostics diagnostics = new ConfigDiagnostics(3);
+		final ConfigProperties configProperties = new ConfigProperties();
+		configProperties.setLoggingPrefix("diagnostics_test");
+		configProperties.setDiagnostics(diagnostics);
+		configProperties.setProperty("Invalid", "not a number");
+		
+		diagnostics.nextGeneration();
+		for (int i = 0; i < 100; i++)
+		{
+			assertThat(configProperties.getInt("Missing", 1), is(1));
+			assertThat(configProperties.getInt("Invalid", 2), is(2));
+		}
+		assertThat(diagnostics.getCount(Reason.MISSING, "diagnostics_test", "Missing"), is(100L));
+		assertThat(diagnostics.getCount(Reason.INVALID, "diagnostics_test", "Invalid"), is(100L));
+		
+		// logged only once per generation
+		assertFalse(diagnostics.record(Reason.MISSING, "diagnostics_test", "Missing"));
+		diagnostics.logSummary();
+		diagnostics.nextGeneration();
+		assertThat(diagnostics.getCount(Reason.MISSING, "diagnostics_test", "Missing"), is(0L));
+		assertTrue(diagnostics.record(Reason.MISSING, "diagnostics_test", "Missing"));
+		assertFalse(diagnostics.record(Reason.MISSING, "diagnostics_test", "Missing"));
+		
+		// the keys over the limit are counted together, but each of them is logged, and the unused keys are evicted by the next generation
+		for (int i = 0; i < 10; i++)
+		{
+			assertTrue(diagnostics.record(Reason.MISSING, "diagnostics_test", "Dynamic" + i));
+		}
+		assertThat(diagnostics.getTrackedKeys(), is(3));
+		assertThat(diagnostics.getUntrackedCount(Reason.MISSING), is(9L));
+		diagnostics.nextGeneration();
+		diagnostics.nextGeneration();
+		assertThat(diagnostics.getTrackedKeys(), is(0));
+		assertThat(diagnostics.getUntrackedCount(Reason.MISSING), is(0L));
+		
+		// the managers don't share their diagnostics
+		assertNotSame(_configManager.getDiagnostics(), new ConfigManager().getDiagnostics());
+	}
+	
+	@Test
+	public void testDiagnosticsKeyLimit()
+	{
+		final ConfigDiagnostics diagnostics = new ConfigDiagnostics();
+		final ConfigProperties configProperties = new ConfigProperties();
+		configProperties.setLoggingPrefix("diagnostics_limit_test");
+		configProperties.setDiagnostics(diagnostics);
+		
+		diagnostics.nextGeneration();
+		for (int i = 0; i < ConfigDiagnostics.DEFAULT_MAXIMUM_KEYS; i++)
+		{
+			assertTrue(diagnostics.record(Reason.MISSING, "diagnostics_limit_test", "Tracked" + i));
+		}
+		assertThat(diagnostics.getTrackedKeys(), is(ConfigDiagnostics.DEFAULT_MAXIMUM_KEYS));
+		
+		// every key over the limit is logged, not only the first one
+		for (int i = 0; i < 10; i++)
+		{
+			assertTrue(diagnostics.record(Reason.MISSING, "diagnostics_limit_test", "Untracked" + i));
+			assertThat(configProperties.getInt("UntrackedProperty" + i, i), is(i));
+		}
+		assertThat(diagnostics.getTrackedKeys(), is(ConfigDiagnostics.DEFAULT_MAXIMUM_KEYS));
+		assertThat(diagnostics.getUntrackedCount(Reason.MISSING), is(20L));
+		
+		// the tracked keys are still logged only once per generation
+		assertFalse(diagnostics.record(Reason.MISSING, "diagnostics_limit_test", "Tracked0"));
+		diagnostics.nextGeneration();
+		assertTrue(diagnostics.record(Reason.MISSING, "diagnostics_limit_test", "Untracked0"));
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigReuse extends AbstractConfigTest
+{
+	private static final String PATTERN_PROPERTY = ConfigReuseTest.class.getSimpleName() + ".TEST_PATTERN";
+	
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		final Pattern pattern = ConfigReuseTest.TEST_PATTERN;
+		final List<String> list = ConfigReuseTest.TEST_STRING_LIST;
+		
+		reload();
+		
+		assertSame(pattern, ConfigReuseTest.TEST_PATTERN);
+		assertSame(list, ConfigReuseTest.TEST_STRING_LIST);
+		
+		System.setProperty(PATTERN_PROPERTY, "[0-9]+");
+		try
+		{
+			reload();
+		}
+		finally
+		{
+			System.clearProperty(PATTERN_PROPERTY);
+		}
+		
+		assertNotSame(pattern, ConfigReuseTest.TEST_PATTERN);
+		assertSame(list, ConfigReuseTest.TEST_STRING_LIST);
+	}
+	
+	@ConfigClass(fileName = "reuse_test")
+	public static class ConfigReuseTest
+	{
+		@ConfigField(name = "TestReusePattern", value = "[a-zA-Z0-9]+")
+		public static Pattern TEST_PATTERN;
+		
+		@ConfigField(name = "TestReuseStringList", value = "This,is,a,string,list,test.")
+		public static List<String> TEST_STRING_LIST;
+	}
+}
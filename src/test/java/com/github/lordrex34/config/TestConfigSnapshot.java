@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.model.ConfigClassInfo;
+import com.github.lordrex34.config.util.ConfigSnapshot;
+
+/**
+ * @author lord_rex
+ */
+public class TestConfigSnapshot extends AbstractConfigTest
+{
+	private static final Path SNAPSHOT_PATH = Paths.get("config", "snapshot_test.bin");
+	
+	@Test
+	public void test() throws IllegalAccessException, IOException, InstantiationException
+	{
+		Files.deleteIfExists(SNAPSHOT_PATH);
+		
+		final ConfigManager configManager = new ConfigManager();
+		configManager.setSnapshotPath(SNAPSHOT_PATH);
+		configManager.load(ITestConfigMarker.class.getPackage().getName());
+		assertTrue(Files.exists(SNAPSHOT_PATH));
+		assertThat(ConfigSnapshotTest.TEST_INT, is(5));
+		
+		// restored from the snapshot on restart
+		final ConfigSnapshot snapshot = ConfigSnapshot.read(SNAPSHOT_PATH);
+		final Path configPath = new ConfigClassInfo(ConfigSnapshotTest.class).getConfigPath();
+		assertThat(snapshot.load(configPath).getProperty("TestSnapshotInt"), is("5"));
+		assertFalse(snapshot.isDirty());
+		
+		// a changed file is parsed again, even if its size is the same
+		final FileTime lastModified = Files.getLastModifiedTime(configPath);
+		Files.write(configPath, "TestSnapshotInt = 6".getBytes(StandardCharsets.ISO_8859_1));
+		Files.setLastModifiedTime(configPath, FileTime.fromMillis(lastModified.toMillis() + 1000));
+		try
+		{
+			final ConfigManager restartedManager = new ConfigManager();
+			restartedManager.setSnapshotPath(SNAPSHOT_PATH);
+			restartedManager.load(ITestConfigMarker.class.getPackage().getName());
+			assertThat(ConfigSnapshotTest.TEST_INT, is(6));
+			assertThat(ConfigSnapshot.read(SNAPSHOT_PATH).load(configPath).getProperty("TestSnapshotInt"), is("6"));
+			
+			// the content is checked too, the size and the modification time may remain the same after an edit
+			final FileTime editedLastModified = Files.getLastModifiedTime(configPath);
+			Files.write(configPath, "TestSnapshotInt = 7".getBytes(StandardCharsets.ISO_8859_1));
+			Files.setLastModifiedTime(configPath, editedLastModified);
+			assertThat(ConfigSnapshot.read(SNAPSHOT_PATH).load(configPath).getProperty("TestSnapshotInt"), is("7"));
+		}
+		finally
+		{
+			Files.delete(configPath);
+		}
+	}
+	
+	@Test
+	public void testCorruptedSnapshot() throws IllegalAccessException, IOException, InstantiationException
+	{
+		Files.write(SNAPSHOT_PATH, "not a snapshot".getBytes(StandardCharsets.ISO_8859_1));
+		
+		final ConfigManager configManager = new ConfigManager();
+		configManager.setSnapshotPath(SNAPSHOT_PATH);
+		configManager.load(ITestConfigMarker.class.getPackage().getName());
+		assertThat(ConfigSnapshotTest.TEST_INT, is(5));
+		
+		final ConfigSnapshot snapshot = ConfigSnapshot.read(SNAPSHOT_PATH);
+		assertThat(snapshot.load(new ConfigClassInfo(ConfigSnapshotTest.class).getConfigPath()).getProperty("TestSnapshotInt"), is("5"));
+		assertFalse(snapshot.isDirty());
+	}
+	
+	@ConfigClass(fileName = "snapshot_test")
+	public static class ConfigSnapshotTest
+	{
+		@ConfigField(name = "TestSnapshotInt", value = "5")
+		public static int TEST_INT;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.annotation.ConfigClass;
+import com.github.lordrex34.config.annotation.ConfigField;
+import com.github.lordrex34.config.converter.CachingConfigConverter;
+import com.github.lordrex34.config.converter.IConfigConverter;
+import com.github.lordrex34.config.converter.MainConfigConverter;
+import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.lang.EnumLookup;
+import com.github.lordrex34.config.lang.FieldParser;
+import com.github.lordrex34.config.lang.FieldParser.FieldParserException;
+import com.github.lordrex34.config.lang.ValueSplitter;
+
+/**
+ * @author lord_rex
+ */
+public class TestEnumLookup extends AbstractConfigTest
+{
+	private enum MixedCaseEnum
+	{
+		VALUE,
+		Other,
+		other,
+		;
+	}
+	
+	@Test
+	public void testLookup()
+	{
+		final EnumLookup<EnumForConfig> lookup = EnumLookup.of(EnumForConfig.class);
+		assertThat(EnumLookup.of(EnumForConfig.class), sameInstance(lookup));
+		for (EnumForConfig constant : EnumForConfig.values())
+		{
+			assertThat(lookup.get(constant.name(), false), is(constant));
+			assertThat(lookup.get(constant.name().toLowerCase(), true), is(constant));
+		}
+		assertThat(lookup.get("test_1", false), is(nullValue()));
+		assertThat(lookup.get("TEST_4", true), is(nullValue()));
+		assertThat(lookup.get("", true), is(nullValue()));
+		
+		// a part of a sequence is resolved without a substring
+		assertThat(lookup.get("[TEST_2]", 1, 7, false), is(EnumForConfig.TEST_2));
+		assertThat(lookup.get(new StringBuilder("x test_3"), 2, 8, true), is(EnumForConfig.TEST_3));
+	}
+	
+	@Test
+	public void testAmbiguousNames()
+	{
+		final EnumLookup<MixedCaseEnum> lookup = EnumLookup.of(MixedCaseEnum.class);
+		assertThat(lookup.get("value", true), is(MixedCaseEnum.VALUE));
+		
+		// the names differing only in their case are resolved only exactly
+		assertThat(lookup.get("Other", true), is(MixedCaseEnum.Other));
+		assertThat(lookup.get("other", true), is(MixedCaseEnum.other));
+		assertThat(lookup.get("OTHER", true), is(nullValue()));
+	}
+	
+	@Test
+	public void testSplitToEnums()
+	{
+		final EnumLookup<EnumForConfig> lookup = EnumLookup.of(EnumForConfig.class);
+		assertArrayEquals(new EnumForConfig[]
+		{
+			EnumForConfig.TEST_1,
+			EnumForConfig.TEST_3
+		}, ValueSplitter.of(",").splitToEnums("TEST_1,test_3,", lookup, true));
+		assertArrayEquals(new EnumForConfig[]
+		{
+			EnumForConfig.TEST_2
+		}, ValueSplitter.of("\\s*,\\s*").splitToEnums("TEST_2", lookup, false));
+		assertArrayEquals(new EnumForConfig[0], ValueSplitter.of(",").splitToEnums(",,", lookup, false));
+		assertThat(ValueSplitter.of(",").splitToEnums("TEST_1,test_3", lookup, false), is(nullValue()));
+		assertThat(ValueSplitter.of(",").splitToEnums("TEST_1,,TEST_2", lookup, true), is(nullValue()));
+	}
+	
+	@Test
+	public void testParsers()
+	{
+		// the names have to match exactly by default
+		assertThat(FieldParser.getEnum(EnumForConfig.class, "TEST_2"), is(EnumForConfig.TEST_2));
+		try
+		{
+			FieldParser.getEnum(EnumForConfig.class, "test_2");
+			fail();
+		}
+		catch (FieldParserException e)
+		{
+			// expected
+		}
+		assertThat(FieldParser.getEnum(EnumForConfig.class, "test_2", true), is(EnumForConfig.TEST_2));
+		
+		final ConfigProperties configProperties = new ConfigProperties();
+		configProperties.setProperty("Enum", "Test_3");
+		assertThat(configProperties.getEnum("Enum", EnumForConfig.class, EnumForConfig.TEST_1), is(EnumForConfig.TEST_1));
+		assertThat(configProperties.getEnum("Enum", EnumForConfig.class, EnumForConfig.TEST_1, true), is(EnumForConfig.TEST_3));
+		configProperties.setProperty("Enum", "TEST_1,test_2");
+		assertArrayEquals(new EnumForConfig[]
+		{
+			EnumForConfig.TEST_3
+		}, configProperties.getEnumArray("Enum", ",", EnumForConfig.class, EnumForConfig.TEST_3));
+		assertArrayEquals(new EnumForConfig[]
+		{
+			EnumForConfig.TEST_1,
+			EnumForConfig.TEST_2
+		}, configProperties.getEnumArray("Enum", ",", EnumForConfig.class, true));
+		assertThat(configProperties.getEnumList("Enum", ",", EnumForConfig.class, EnumForConfig.TEST_3), is(Arrays.asList(EnumForConfig.TEST_3)));
+		assertThat(configProperties.getEnumList("Enum", ",", EnumForConfig.class, true), is(Arrays.asList(EnumForConfig.TEST_1, EnumForConfig.TEST_2)));
+		configProperties.setProperty("Enum", "TEST_1,TEST_4");
+		assertThat(configProperties.getEnumList("Enum", ",", EnumForConfig.class, true, EnumForConfig.TEST_3), is(Arrays.asList(EnumForConfig.TEST_3)));
+	}
+	
+	@Test
+	public void testIgnoreCaseFields() throws Exception
+	{
+		assertThat(ConfigEnumLookupTest.TEST_IGNORE_CASE_ENUM, is(EnumForConfig.TEST_2));
+		assertArrayEquals(new EnumForConfig[]
+		{
+			EnumForConfig.TEST_1,
+			EnumForConfig.TEST_3
+		}, ConfigEnumLookupTest.TEST_IGNORE_CASE_ENUM_ARRAY);
+		assertThat(ConfigEnumLookupTest.TEST_IGNORE_CASE_ENUM_LIST, is(Arrays.asList(EnumForConfig.TEST_3)));
+		
+		// the fields without ignoreCase reject the wrong case, even after a field with it has been converted by the caching converter
+		final Field exactField = ConfigEnumLookupTest.class.getField("TEST_EXACT_ENUM");
+		for (IConfigConverter converter : Arrays.asList(MainConfigConverter.getInstance(), CachingConfigConverter.getInstance()))
+		{
+			converter.convertFromString(ConfigEnumLookupTest.class.getField("TEST_IGNORE_CASE_ENUM"), EnumForConfig.class, "test_1");
+			try
+			{
+				converter.convertFromString(exactField, EnumForConfig.class, "test_1");
+				fail();
+			}
+			catch (FieldParserException e)
+			{
+				// expected
+			}
+		}
+	}
+	
+	@ConfigClass(fileName = "enum_lookup_test")
+	public static class ConfigEnumLookupTest
+	{
+		@ConfigField(name = "TestIgnoreCaseEnum", value = "test_2", ignoreCase = true)
+		public static EnumForConfig TEST_IGNORE_CASE_ENUM;
+		
+		@ConfigField(name = "TestIgnoreCaseEnumArray", value = "Test_1,test_3", ignoreCase = true)
+		public static EnumForConfig[] TEST_IGNORE_CASE_ENUM_ARRAY;
+		
+		@ConfigField(name = "TestIgnoreCaseEnumList", value = "test_3", ignoreCase = true)
+		public static List<EnumForConfig> TEST_IGNORE_CASE_ENUM_LIST;
+		
+		@ConfigField(name = "TestExactEnum", value = "TEST_1")
+		public static EnumForConfig TEST_EXACT_ENUM;
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.text.ParsePosition;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.lang.FieldParser;
+import com.github.lordrex34.config.lang.FieldParser.FieldParserException;
+import com.github.lordrex34.config.lang.NumberParser;
+
+/**
+ * @author lord_rex
+ */
+public class TestNumberParser extends AbstractConfigTest
+{
+	private static final String[] VALUES =
+	{
+		"0",
+		"-0",
+		"+1",
+		"42",
+		"-42",
+		"010",
+		"-010",
+		"0x1F",
+		"0X1f",
+		"#ff",
+		"-#10",
+		"2147483647",
+		"-2147483648",
+		"2147483648",
+		"0x7fffffff",
+		"0x80000000",
+		"-0x80000000",
+		"9223372036854775807",
+		"-9223372036854775808",
+		"9223372036854775808",
+		"0x8000000000000000",
+		"",
+		"-",
+		"+",
+		"0x",
+		"#",
+		"08",
+		"0x-1",
+		"--1",
+		"1a",
+		" 1",
+		"1_000",
+	};
+	
+	@Test
+	public void testDecode()
+	{
+		for (String value : VALUES)
+		{
+			assertThat(value, parse(value, Integer.MIN_VALUE, Integer.MAX_VALUE), is(decodeInteger(value)));
+			assertThat(value, parse(value, Long.MIN_VALUE, Long.MAX_VALUE), is(decodeLong(value)));
+		}
+	}
+	
+	@Test
+	public void testRange()
+	{
+		final String value = "[a=0x1F]";
+		final ParsePosition position = new ParsePosition(3);
+		assertThat(NumberParser.parseLong(value, 3, 7, Long.MIN_VALUE, Long.MAX_VALUE, NumberParser.RADIX_PREFIXES, position), is(31L));
+		assertThat(position.getIndex(), is(7));
+		assertThat(position.getErrorIndex(), is(-1));
+		
+		// the error index points at the offending character
+		position.setIndex(0);
+		NumberParser.parseLong("12x4", 0, 4, Long.MIN_VALUE, Long.MAX_VALUE, 0, position);
+		assertThat(position.getErrorIndex(), is(2));
+		
+		// hexadecimal and octal numbers are plain decimal ones without the flag
+		assertThat(parse("010", 0), is(10L));
+		assertThat(parse("0x10", 0), is(nullValue()));
+	}
+	
+	@Test
+	public void testUnderscores()
+	{
+		assertThat(parse("1_000_000", NumberParser.UNDERSCORES), is(1000000L));
+		assertThat(parse("1__0", NumberParser.UNDERSCORES), is(10L));
+		assertThat(parse("0xFF_FF", NumberParser.RADIX_PREFIXES | NumberParser.UNDERSCORES), is(0xFFFFL));
+		assertThat(parse("0_17", NumberParser.RADIX_PREFIXES | NumberParser.UNDERSCORES), is(15L));
+		
+		for (String value : new String[]
+		{
+			"_1",
+			"1_",
+			"-_1",
+			"0x_1",
+			"1_x",
+		})
+		{
+			assertThat(value, parse(value, NumberParser.RADIX_PREFIXES | NumberParser.UNDERSCORES), is(nullValue()));
+		}
+		assertThat(parse("1_000", 0), is(nullValue()));
+	}
+	
+	@Test
+	public void testParsers()
+	{
+		assertThat(FieldParser.getInteger("0x10"), is(16));
+		assertThat(FieldParser.getShort("-#8000"), is(Short.MIN_VALUE));
+		assertThat(FieldParser.getByte("0177"), is((byte) 127));
+		try
+		{
+			FieldParser.getByte("128");
+			fail();
+		}
+		catch (FieldParserException e)
+		{
+			assertThat(e.getCause(), is(nullValue()));
+		}
+		
+		// the digit separators are not accepted, the same way as by Long.decode
+		try
+		{
+			FieldParser.getLong("1_000");
+			fail();
+		}
+		catch (FieldParserException e)
+		{
+			assertThat(e.getCause(), is(nullValue()));
+		}
+		
+		final ConfigProperties configProperties = new ConfigProperties();
+		configProperties.setProperty("Number", "010");
+		assertThat(configProperties.getInt("Number", -1), is(10));
+		configProperties.setProperty("Number", "1_000");
+		assertThat(configProperties.getInt("Number", -1), is(-1));
+		configProperties.setProperty("Number", "0x10");
+		assertThat(configProperties.getInt("Number", -1), is(-1));
+	}
+	
+	private static Long parse(String value, long min, long max)
+	{
+		final ParsePosition position = new ParsePosition(0);
+		final long result = NumberParser.parseLong(value, 0, value.length(), min, max, NumberParser.RADIX_PREFIXES, position);
+		return position.getErrorIndex() < 0 ? result : null;
+	}
+	
+	private static Long parse(String value, int flags)
+	{
+		final ParsePosition position = new ParsePosition(0);
+		final long result = NumberParser.parseLong(value, 0, value.length(), Long.MIN_VALUE, Long.MAX_VALUE, flags, position);
+		return position.getErrorIndex() < 0 ? result : null;
+	}
+	
+	private static Long decodeInteger(String value)
+	{
+		try
+		{
+			return Integer.decode(value).longValue();
+		}
+		catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+	
+	private static Long decodeLong(String value)
+	{
+		try
+		{
+			return Long.decode(value);
+		}
+		catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Reginald Ravenhorst <lordrex34@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lordrex34.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.github.lordrex34.config.lang.ConfigProperties;
+import com.github.lordrex34.config.lang.ValueSplitter;
+
+/**
+ * @author lord_rex
+ */
+public class TestValueSplitter extends AbstractConfigTest
+{
+	private static final String[] VALUES =
+	{
+		"",
+		"a",
+		"a,b,c",
+		",a,,b,",
+		",,,",
+		"a,,",
+		"a, b ,c",
+		"a;b|c",
+		"a::b::c::",
+	};
+	
+	private static final String[] SEPARATORS =
+	{
+		",",
+		";",
+		"::",
+		"|",
+		"[,;]",
+		"\\s*,\\s*",
+	};
+	
+	@Test
+	public void testSplit()
+	{
+		for (String separator : SEPARATORS)
+		{
+			for (String value : VALUES)
+			{
+				assertArrayEquals(separator + " " + value, value.split(separator), ValueSplitter.of(separator).split(value));
+			}
+		}
+		
+		// literal splitters don't treat the separator as a regular expression
+		assertArrayEquals(new String[]
+		{
+			"a",
+			"b"
+		}, ValueSplitter.literal("|").split("a|b"));
+	}
+	
+	@Test
+	public void testSplitToInts()
+	{
+		final String[] numbers =
+		{
+			"0",
+			"-0",
+			"+5",
+			"010",
+			"0x1F",
+			"-0X1f",
+			"#ff",
+			" 42 ",
+			"2147483647",
+			"-2147483648",
+			"0x7fffffff",
+			"-0x80000000",
+		};
+		final String value = String.join(",", numbers);
+		assertArrayEquals(Arrays.stream(numbers).mapToInt(n -> Integer.decode(n.trim())).toArray(), ValueSplitter.of(",").splitToInts(value));
+		assertArrayEquals(Arrays.stream(numbers).mapToInt(n -> Integer.decode(n.trim())).toArray(), ValueSplitter.of("[,]").splitToInts(value));
+		
+		for (String invalid : new String[]
+		{
+			"",
+			"1,,2",
+			"2147483648",
+			"-2147483649",
+			"0x80000000",
+			"0x",
+			"--1",
+			"0x-1",
+			"09",
+			"1a",
+		})
+		{
+			try
+			{
+				ValueSplitter.of(",").splitToInts(invalid);
+				fail("Invalid value " + invalid + " has been parsed!");
+			}
+			catch (NumberFormatException e)
+			{
+				// expected
+			}
+		}
+		
+		final ConfigProperties properties = new ConfigProperties();
+		properties.setProperty("Ints", "1, 2, 0x10");
+		assertArrayEquals(new int[]
+		{
+			1,
+			2,
+			16
+		}, properties.getIntArray("Ints", ","));
+		assertThat(properties.getIntArray("Ints", ";", -1).length, is(1));
+	}
+}